@@ -0,0 +1,10 @@
+package com.careerportal.career_portal_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables the @Scheduled background jobs (see the scheduler package)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
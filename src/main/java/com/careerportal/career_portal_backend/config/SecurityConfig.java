@@ -54,6 +54,7 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.POST, "/api/files/**").permitAll() // Allow public access to file uploads for registration
                                 .requestMatchers(HttpMethod.GET, "/api/jobs/**").permitAll()  // Allow public access to view job listings
                                 .requestMatchers(HttpMethod.GET, "/api/employer/all").permitAll() // Allow public access to view companies
+                                .requestMatchers(HttpMethod.GET, "/api/employer/suggest").permitAll() // Company name typeahead
                                 .requestMatchers(HttpMethod.GET, "/api/jobseekers/all").permitAll() // Allow public access to view job seekers
                                 .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll() // Allow public access to uploaded files
                                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // Allow preflight requests
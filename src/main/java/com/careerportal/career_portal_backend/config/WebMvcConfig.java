@@ -15,6 +15,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000", "http://localhost:5173") // Support both ports
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // Include OPTIONS for preflight
                 .allowedHeaders("*") // Allowed request headers
+                .exposedHeaders("X-Next-Cursor", "X-Total-Count") // Let the frontend read paging headers
                 .allowCredentials(true) // Allows cookies and authorization headers (like JWT)
                 .maxAge(3600); // Max age of the CORS pre-flight request
     }
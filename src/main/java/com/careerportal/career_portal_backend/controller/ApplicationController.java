@@ -87,18 +87,27 @@ public class ApplicationController {
     @GetMapping("/{applicationId}/resume")
     public ResponseEntity<org.springframework.core.io.Resource> downloadResume(
             @PathVariable Long applicationId,
+            @RequestHeader(value = org.springframework.http.HttpHeaders.RANGE, required = false) String range,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         try {
             org.springframework.core.io.Resource resource = applicationService.getApplicationResume(
                     applicationId, userDetails.getUsername());
 
+            // Satisfiable ranges are answered with 206 by Spring's resource handling
+            java.util.Optional<ResponseEntity<org.springframework.core.io.Resource>> unsatisfiable =
+                    RangeRequests.rejectUnsatisfiable(range, resource);
+            if (unsatisfiable.isPresent()) {
+                return unsatisfiable.get();
+            }
+
             String fileName = applicationService.getApplicationResumeFileName(applicationId, userDetails.getUsername());
 
             return ResponseEntity.ok()
                     .contentType(org.springframework.http.MediaType.APPLICATION_PDF)
                     .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION, 
                             "attachment; filename=\"" + fileName + "\"")
+                    .header(org.springframework.http.HttpHeaders.ACCEPT_RANGES, "bytes")
                     .body(resource);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
@@ -11,6 +11,8 @@ import com.careerportal.career_portal_backend.repository.RoleRepository;
 import com.careerportal.career_portal_backend.repository.UserRepository;
 import com.careerportal.career_portal_backend.repository.EmployerRepository;
 import com.careerportal.career_portal_backend.security.JwtTokenProvider;
+import com.careerportal.career_portal_backend.security.TokenRevocationService;
+import com.careerportal.career_portal_backend.security.VerifiedToken;
 import com.careerportal.career_portal_backend.service.EmployerService;
 import com.careerportal.career_portal_backend.service.JobSeekerProfileService;
 import org.springframework.http.HttpStatus;
@@ -25,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.Date;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -39,6 +42,7 @@ public class AuthController {
     private final JwtTokenProvider tokenProvider;
     private final EmployerService employerService;
     private final JobSeekerProfileService jobSeekerProfileService;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthController(AuthenticationManager authenticationManager,
                           UserRepository userRepository,
@@ -47,7 +51,8 @@ public class AuthController {
                           PasswordEncoder passwordEncoder,
                           JwtTokenProvider tokenProvider,
                           EmployerService employerService,
-                          JobSeekerProfileService jobSeekerProfileService) {
+                          JobSeekerProfileService jobSeekerProfileService,
+                          TokenRevocationService tokenRevocationService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
@@ -56,6 +61,7 @@ public class AuthController {
         this.tokenProvider = tokenProvider;
         this.employerService = employerService;
         this.jobSeekerProfileService = jobSeekerProfileService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     // --- Login Endpoint ---
@@ -85,6 +91,21 @@ public class AuthController {
         }
     }
 
+    // --- Logout Endpoint (revokes the presented token until it expires) ---
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return new ResponseEntity<>("No token provided", HttpStatus.BAD_REQUEST);
+        }
+        VerifiedToken verified = tokenProvider.parseVerifiedToken(authorization.substring(7));
+        if (verified == null) {
+            return new ResponseEntity<>("Invalid token", HttpStatus.UNAUTHORIZED);
+        }
+        tokenRevocationService.revoke(verified.tokenId(), new Date(verified.expiresAt()));
+        logger.info("Logout for user: {}", verified.subject());
+        return new ResponseEntity<>("Logged out successfully", HttpStatus.OK);
+    }
+
     // --- Register Endpoint ---
     @PostMapping("/register")
     public ResponseEntity<String> registerUser(@RequestBody RegisterDto registerDto){
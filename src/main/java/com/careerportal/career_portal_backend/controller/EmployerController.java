@@ -3,6 +3,7 @@ package com.careerportal.career_portal_backend.controller;
 import com.careerportal.career_portal_backend.entity.Employer;
 import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.payload.EmployerDto;
+import com.careerportal.career_portal_backend.payload.EmployerSuggestionDto;
 import com.careerportal.career_portal_backend.repository.UserRepository;
 import com.careerportal.career_portal_backend.service.EmployerService;
 import org.springframework.http.HttpStatus;
@@ -19,6 +20,7 @@ import org.slf4j.LoggerFactory;
 public class EmployerController {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployerController.class);
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
     private final EmployerService employerService;
     private final UserRepository userRepository;
 
@@ -92,24 +94,42 @@ public class EmployerController {
     public ResponseEntity<java.util.List<EmployerDto>> getAllEmployers(
             @RequestParam(value = "companyName", required = false) String companyName,
             @RequestParam(value = "industry", required = false) String industry,
-            @RequestParam(value = "foundedAfter", required = false) Integer foundedAfter) {
+            @RequestParam(value = "foundedAfter", required = false) Integer foundedAfter,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
             logger.info("Fetching all employers with filters - companyName: {}, industry: {}, foundedAfter: {}", 
                 companyName, industry, foundedAfter);
             
-            java.util.List<Employer> employers = employerService.getAllEmployers(companyName, industry, foundedAfter);
+            org.springframework.data.domain.Page<Employer> employers =
+                    employerService.getAllEmployers(companyName, industry, foundedAfter, page, size);
             java.util.List<EmployerDto> employerDtos = employers.stream()
                     .map(this::mapToDto)
                     .collect(java.util.stream.Collectors.toList());
             
             logger.info("Found {} employers", employerDtos.size());
-            return ResponseEntity.ok(employerDtos);
+            // The body stays a plain array; the total number of matches is sent alongside for paging
+            return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(employers.getTotalElements()))
+                    .body(employerDtos);
         } catch (Exception e) {
             logger.error("Error fetching employers", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<EmployerSuggestionDto> suggestEmployers(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(employerService.suggestEmployers(query, limit));
+        } catch (Exception e) {
+            logger.error("Error suggesting employers for: {}", query, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     private EmployerDto mapToDto(Employer employer) {
         EmployerDto dto = new EmployerDto();
         dto.setId(employer.getId());
@@ -1,61 +1,168 @@
 package com.careerportal.career_portal_backend.controller;
 
 import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import com.careerportal.career_portal_backend.service.DerivativeService;
 import com.careerportal.career_portal_backend.service.FileStorageService;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/uploads")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
 public class FileServingController {
 
     private static final Logger logger = LoggerFactory.getLogger(FileServingController.class);
+
+    // File ids are never reused and stored content never changes, so responses can be cached for good,
+    // but only by the browser: resumes and photos are personal data and stay out of shared caches
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).immutable().cachePrivate();
     
     private final FileStorageService fileStorageService;
+    private final DerivativeService derivativeService;
 
-    public FileServingController(FileStorageService fileStorageService) {
+    public FileServingController(FileStorageService fileStorageService, DerivativeService derivativeService) {
         this.fileStorageService = fileStorageService;
+        this.derivativeService = derivativeService;
     }
 
     @GetMapping("/resumes/{filename:.+}")
-    public ResponseEntity<Resource> serveResumeFile(@PathVariable String filename) {
+    public ResponseEntity<Resource> serveResumeFile(@PathVariable String filename,
+                                                    @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                    WebRequest webRequest) {
         // Filename here corresponds to the DBFile ID
-        return serveFile(filename);
+        return serveFile(filename, range, webRequest);
     }
 
     @GetMapping("/photos/{filename:.+}")
-    public ResponseEntity<Resource> servePhotoFile(@PathVariable String filename) {
+    public ResponseEntity<Resource> servePhotoFile(@PathVariable String filename,
+                                                   @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                   WebRequest webRequest) {
         // Filename here corresponds to the DBFile ID
-        return serveFile(filename);
+        return serveFile(filename, range, webRequest);
+    }
+
+    // Small PNG versions for list views; 404 until the background job has produced them
+    @GetMapping("/photos/{filename}/thumbnail")
+    public ResponseEntity<Resource> servePhotoThumbnail(@PathVariable String filename, WebRequest webRequest) {
+        return serveDerivedFile(filename, DerivativeJob.Kind.THUMBNAIL, webRequest);
+    }
+
+    @GetMapping("/resumes/{filename}/preview")
+    public ResponseEntity<Resource> serveResumePreview(@PathVariable String filename, WebRequest webRequest) {
+        return serveDerivedFile(filename, DerivativeJob.Kind.PREVIEW, webRequest);
     }
 
     @GetMapping("/debug/files")
     public ResponseEntity<String> debugFiles() {
-        return ResponseEntity.ok("File storage is now Database-backed. Filesystem debug no longer available.");
+        return ResponseEntity.ok("Files are served through the configured storage backend. Filesystem debug no longer available.");
     }
 
-    private ResponseEntity<Resource> serveFile(String fileId) {
+    // Range requests (single or multiple ranges) are answered with 206 by Spring's resource handling
+    private ResponseEntity<Resource> serveFile(String fileId, String range, WebRequest webRequest) {
         try {
             logger.info("Attempting to serve file with ID: {}", fileId);
             
             DBFile dbFile = fileStorageService.getFile(fileId);
-            
-            return ResponseEntity.ok()
+
+            // A Range with a stale If-Range validator asks for the whole current file instead
+            boolean ignoreRange = range != null && !RangeRequests.ifRangeMatches(
+                    webRequest.getHeader(HttpHeaders.IF_RANGE), eTagOf(dbFile, false), lastModifiedOf(dbFile));
+            if (ignoreRange) {
+                range = null;
+            }
+
+            // Compressed content goes out as stored when the client accepts the encoding (ranges are
+            // always served from the decoded bytes)
+            String encoding = dbFile.getContentEncoding();
+            boolean sendEncoded = encoding != null && range == null && acceptsEncoding(webRequest, encoding);
+
+            // Answer If-None-Match / If-Modified-Since from the metadata alone, before touching the blob.
+            // checkNotModified also sets the ETag and Last-Modified headers on the response.
+            if (webRequest.checkNotModified(eTagOf(dbFile, sendEncoded), lastModifiedOf(dbFile))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(IMMUTABLE).build();
+            }
+
+            Resource resource = sendEncoded
+                    ? fileStorageService.loadStoredResource(dbFile)
+                    : fileStorageService.loadFileAsResource(dbFile);
+            long contentLength = resource.contentLength();
+            if (ignoreRange) {
+                resource = RangeRequests.withoutRangeSupport(resource);
+            }
+
+            Optional<ResponseEntity<Resource>> unsatisfiable = RangeRequests.rejectUnsatisfiable(range, resource);
+            if (unsatisfiable.isPresent()) {
+                return unsatisfiable.get();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                     .contentType(MediaType.parseMediaType(dbFile.getFileType()))
                     .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + dbFile.getFileName() + "\"")
-                    .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
-                    .body(new ByteArrayResource(dbFile.getData()));
+                    .cacheControl(IMMUTABLE)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+            if (ignoreRange) {
+                response.contentLength(contentLength);
+            }
+            if (encoding != null) {
+                response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+            }
+            if (sendEncoded) {
+                response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+            }
+            return response.body(resource);
 
         } catch (Exception e) {
             logger.error("Error serving file with ID: {}", fileId, e);
             return ResponseEntity.notFound().build();
         }
     }
+
+    private ResponseEntity<Resource> serveDerivedFile(String fileId, DerivativeJob.Kind kind, WebRequest webRequest) {
+        return derivativeService.findDerivedFile(fileId, kind)
+                .map(derived -> serveFile(derived.getId(), null, webRequest))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Strong validator: the SHA-256 of the content recorded at upload time (absent for legacy rows),
+    // suffixed for the encoded representation since its bytes differ
+    private static String eTagOf(DBFile dbFile, boolean encoded) {
+        if (dbFile.getContentHash() == null) {
+            return null;
+        }
+        return "\"" + dbFile.getContentHash() + (encoded ? "-" + dbFile.getContentEncoding() : "") + "\"";
+    }
+
+    private static boolean acceptsEncoding(WebRequest webRequest, String encoding) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            boolean refused = tokens.length > 1 && tokens[1].trim().matches("q=0(\\.0*)?");
+            if (tokens[0].trim().equalsIgnoreCase(encoding) && !refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long lastModifiedOf(DBFile dbFile) {
+        return dbFile.getUploadedAt() != null
+                ? dbFile.getUploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+    }
 }
\ No newline at end of file
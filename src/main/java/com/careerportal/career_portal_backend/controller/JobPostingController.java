@@ -1,17 +1,31 @@
 package com.careerportal.career_portal_backend.controller;
 
+import com.careerportal.career_portal_backend.payload.CandidateMatchDto;
 import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.careerportal.career_portal_backend.payload.JobPostingPageDto;
 import com.careerportal.career_portal_backend.service.JobPostingService;
-import com.careerportal.career_portal_backend.service.ApplicationService;
+import com.careerportal.career_portal_backend.service.MatchingService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -19,12 +33,21 @@ import java.util.List;
 public class JobPostingController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobPostingController.class);
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int STREAM_FLUSH_EVERY = 100;
     private final JobPostingService jobPostingService;
-    private final ApplicationService applicationService;
+    private final MatchingService matchingService;
+    private final ObjectMapper objectMapper;
+    private final Duration exportTimeout;
 
-    public JobPostingController(JobPostingService jobPostingService, ApplicationService applicationService) {
+    public JobPostingController(JobPostingService jobPostingService, MatchingService matchingService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.jobs.export-timeout:PT10M}") Duration exportTimeout) {
         this.jobPostingService = jobPostingService;
-        this.applicationService = applicationService;
+        this.matchingService = matchingService;
+        this.objectMapper = objectMapper;
+        this.exportTimeout = exportTimeout;
     }
 
     // --- Debug endpoint to check if jobs are being created ---
@@ -36,6 +59,39 @@ public class JobPostingController {
         return ResponseEntity.ok(jobs);
     }
 
+    // --- Streaming export: /api/jobs/all?format=ndjson writes one JSON object per line as rows are read ---
+    @GetMapping(value = "/all", params = "format=ndjson", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllJobs(HttpServletRequest request) {
+        logger.info("Streaming all job postings as NDJSON");
+        // Longer than the default async timeout so large exports finish, but still bounded per request
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
+        ObjectWriter writer = objectMapper.writerFor(JobPostingDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null); // lines are separated by '\n' only
+                long[] written = {0};
+                jobPostingService.streamAllJobPostings(job -> {
+                    try {
+                        writer.writeValue(generator, job);
+                        generator.writeRaw('\n');
+                        // Flush in small batches so the client starts receiving rows immediately
+                        if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
     // --- Secured Endpoint (Only EMPLOYER role can post) ---
     @PreAuthorize("hasRole('EMPLOYER')")
     @PostMapping
@@ -59,16 +115,31 @@ public class JobPostingController {
         }
     }
 
+    // Keyset-paginated search: the body stays a plain array, the continuation token for the
+    // next page is returned in the X-Next-Cursor header (absent on the last page)
     @GetMapping
     public ResponseEntity<List<JobPostingDto>> searchJobs(
             @RequestParam(value = "keyword", required = false) String keyword,
             @RequestParam(value = "location", required = false) String location,
-            @RequestParam(value = "experience", required = false) String experienceLevel) {
+            @RequestParam(value = "experience", required = false) String experienceLevel,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
 
-        // Use the search method with all optional parameters
-        List<JobPostingDto> jobList = jobPostingService.searchJobPostings(keyword, location, experienceLevel);
+        try {
+            // Use the search method with all optional parameters
+            JobPostingPageDto page = jobPostingService.searchJobPostings(
+                    keyword, location, experienceLevel, sort, cursor, size);
 
-        return ResponseEntity.ok(jobList);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getJobs());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected job search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // --- Get job postings for the current employer ---
@@ -79,20 +150,9 @@ public class JobPostingController {
         try {
             logger.info("Fetching job postings for employer: {}", userDetails.getUsername());
             
+            // Application counts come from the materialised counter on each posting
             List<JobPostingDto> jobs = jobPostingService.getJobPostingsByEmployer(userDetails.getUsername());
             
-            // Add application counts to each job
-            for (JobPostingDto job : jobs) {
-                try {
-                    Long applicationCount = applicationService.getApplicationCountForJob(job.getId());
-                    job.setApplicationCount(applicationCount);
-                    logger.debug("Job {} has {} applications", job.getId(), applicationCount);
-                } catch (Exception e) {
-                    logger.warn("Failed to get application count for job {}: {}", job.getId(), e.getMessage());
-                    job.setApplicationCount(0L);
-                }
-            }
-            
             logger.info("Returning {} job postings for employer: {}", jobs.size(), userDetails.getUsername());
             return ResponseEntity.ok(jobs);
         } catch (Exception e) {
@@ -118,6 +178,21 @@ public class JobPostingController {
         }
     }
 
+    // --- Candidates whose skills best match one of the employer's job postings ---
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<List<CandidateMatchDto>> getMatchingCandidates(
+            @PathVariable Long id,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            return ResponseEntity.ok(matchingService.matchCandidatesForJob(id, userDetails.getUsername(), limit));
+        } catch (IllegalStateException e) {
+            logger.warn("Candidate matching unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     // --- Update job posting ---
     @PreAuthorize("hasRole('EMPLOYER')")
     @PutMapping("/{id}")
@@ -1,59 +1,86 @@
 package com.careerportal.career_portal_backend.controller;
 
-import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.CandidateSearchResultDto;
 import com.careerportal.career_portal_backend.payload.JobSeekerDto;
 import com.careerportal.career_portal_backend.service.JobSeekerService;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/jobseekers")
 public class JobSeekerController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSeekerController.class);
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
     private final JobSeekerService jobSeekerService;
 
     public JobSeekerController(JobSeekerService jobSeekerService) {
         this.jobSeekerService = jobSeekerService;
     }
 
+    // Paged listing: the body stays a plain array, the total number of matches is sent in X-Total-Count
     @GetMapping("/all")
-    public ResponseEntity<List<JobSeekerDto>> getAllJobSeekers() {
+    public ResponseEntity<List<JobSeekerDto>> getAllJobSeekers(
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "gender", required = false) String gender,
+            @RequestParam(value = "skills", required = false) String skills,
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            logger.info("Fetching all job seekers");
-            
-            List<JobSeekerProfile> jobSeekers = jobSeekerService.getAllJobSeekers();
-            List<JobSeekerDto> jobSeekerDtos = jobSeekers.stream()
-                    .map(this::mapToDto)
-                    .collect(Collectors.toList());
-            
-            logger.info("Found {} job seekers", jobSeekerDtos.size());
-            return ResponseEntity.ok(jobSeekerDtos);
+            logger.info("Fetching job seekers with filters - status: {}, gender: {}, skills: {}, created: {} to {}",
+                    status, gender, skills, createdFrom, createdTo);
+
+            Page<JobSeekerDto> jobSeekers = jobSeekerService.getJobSeekers(
+                    status, gender, skills, createdFrom, createdTo, page, size);
+
+            logger.info("Found {} job seekers", jobSeekers.getNumberOfElements());
+            return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(jobSeekers.getTotalElements()))
+                    .body(jobSeekers.getContent());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected job seeker listing request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error fetching job seekers", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private JobSeekerDto mapToDto(JobSeekerProfile profile) {
-        JobSeekerDto dto = new JobSeekerDto();
-        dto.setId(profile.getId());
-        dto.setName(profile.getName());
-        dto.setEmail(profile.getEmail());
-        dto.setMobile(profile.getMobile());
-        dto.setStatus(profile.getStatus() != null ? profile.getStatus().toString() : null);
-        dto.setGender(profile.getGender() != null ? profile.getGender().toString() : null);
-        dto.setDob(profile.getDob());
-        dto.setEducation(profile.getEducation());
-        dto.setWorkExperience(profile.getWorkExperience());
-        dto.setSkills(profile.getSkills());
-        dto.setCreatedAt(profile.getCreatedAt());
-        return dto;
+    // Candidate search for employers: boolean query over skills, education and experience,
+    // filtered by facets (repeat a parameter to select several values), best match first
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @GetMapping("/search")
+    public ResponseEntity<CandidateSearchResultDto> searchCandidates(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "skill", required = false) List<String> skills,
+            @RequestParam(value = "qualification", required = false) List<String> qualifications,
+            @RequestParam(value = "status", required = false) List<String> statuses,
+            @RequestParam(value = "minYearOfPassing", required = false) Integer minYearOfPassing,
+            @RequestParam(value = "maxYearOfPassing", required = false) Integer maxYearOfPassing,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(jobSeekerService.searchCandidates(query, skills, qualifications, statuses,
+                    minYearOfPassing, maxYearOfPassing, page, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected candidate search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("Candidate search unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
-}
\ No newline at end of file
+}
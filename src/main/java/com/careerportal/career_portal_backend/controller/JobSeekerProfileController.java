@@ -1,7 +1,9 @@
 package com.careerportal.career_portal_backend.controller;
 
+import com.careerportal.career_portal_backend.payload.JobMatchDto;
 import com.careerportal.career_portal_backend.payload.JobSeekerProfileDto;
 import com.careerportal.career_portal_backend.service.JobSeekerProfileService;
+import com.careerportal.career_portal_backend.service.MatchingService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -11,15 +13,20 @@ import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/jobseeker")
 public class JobSeekerProfileController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSeekerProfileController.class);
     private final JobSeekerProfileService jobSeekerProfileService;
+    private final MatchingService matchingService;
 
-    public JobSeekerProfileController(JobSeekerProfileService jobSeekerProfileService) {
+    public JobSeekerProfileController(JobSeekerProfileService jobSeekerProfileService,
+                                      MatchingService matchingService) {
         this.jobSeekerProfileService = jobSeekerProfileService;
+        this.matchingService = matchingService;
     }
 
     @PreAuthorize("hasRole('JOB_SEEKER')")
@@ -49,4 +56,18 @@ public class JobSeekerProfileController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    // Open job postings whose required skills best match the logged-in job seeker's skills
+    @PreAuthorize("hasRole('JOB_SEEKER')")
+    @GetMapping("/matches")
+    public ResponseEntity<List<JobMatchDto>> getMatchingJobs(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            return ResponseEntity.ok(matchingService.matchJobsForJobSeeker(userDetails.getUsername(), limit));
+        } catch (IllegalStateException e) {
+            logger.warn("Job matching unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
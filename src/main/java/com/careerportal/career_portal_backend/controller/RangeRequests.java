@@ -0,0 +1,68 @@
+package com.careerportal.career_portal_backend.controller;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Range support for file downloads. Spring MVC already answers a Range request against a 200
+ * {@link Resource} response with 206 Partial Content (multipart/byteranges for several ranges) by
+ * skipping into the resource's stream, which seeks in both storage backends. It still writes the
+ * full body alongside a 416 though, so unsatisfiable ranges are rejected here first, and it does not
+ * look at If-Range, which is evaluated here as well.
+ */
+final class RangeRequests {
+
+    private RangeRequests() {
+    }
+
+    /**
+     * Whether a Range request should be honoured given its If-Range header: only when the header is absent
+     * or names the current representation, by strong entity tag or by its exact Last-Modified date
+     */
+    static boolean ifRangeMatches(String ifRange, String eTag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        String validator = ifRange.trim();
+        if (validator.startsWith("\"") || validator.startsWith("W/")) {
+            // Weak tags never match for ranges
+            return eTag != null && validator.equals(eTag);
+        }
+        try {
+            long date = ZonedDateTime.parse(validator, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return lastModified >= 0 && date == lastModified / 1000 * 1000;
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    /** The same content as a body Spring MVC sends whole, ignoring the request's Range header */
+    static Resource withoutRangeSupport(Resource resource) throws IOException {
+        return new InputStreamResource(resource.getInputStream(), resource.getDescription());
+    }
+
+    static Optional<ResponseEntity<Resource>> rejectUnsatisfiable(String rangeHeader, Resource resource)
+            throws IOException {
+        if (rangeHeader == null) {
+            return Optional.empty();
+        }
+        try {
+            HttpRange.toResourceRegions(HttpRange.parseRanges(rangeHeader), resource);
+            return Optional.empty();
+        } catch (IllegalArgumentException ex) {
+            return Optional.of(ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + resource.contentLength())
+                    .build());
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.careerportal.career_portal_backend.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "db_files")
+@Table(name = "db_files", indexes = {
+        @Index(name = "idx_db_files_content_hash", columnList = "contentHash"),
+        @Index(name = "idx_db_files_storage_location", columnList = "storageLocation")
+})
 public class DBFile {
 
     @Id
@@ -16,17 +22,53 @@ public class DBFile {
 
     private String fileType;
 
+    private Long fileSize;
+
+    // Hex SHA-256 of the content
+    @Column(length = 64)
+    private String contentHash;
+
+    // Which BlobStore holds the content; null for rows written before stores existed (database)
+    @Column(length = 20)
+    private String storageBackend;
+
+    // Backend-specific location of the content, e.g. a path relative to the filesystem store root
+    private String storageLocation;
+
+    // Codec the content is stored with (e.g. gzip); null when stored as uploaded
+    @Column(length = 20)
+    private String contentEncoding;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime uploadedAt;
+
+    // Only used by the database backend; lazy (bytecode enhanced) so metadata loads skip the blob
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "LONGBLOB")
     private byte[] data;
 
     public DBFile() {
     }
 
-    public DBFile(String fileName, String fileType, byte[] data) {
+    public DBFile(String fileName, String fileType) {
         this.fileName = fileName;
         this.fileType = fileType;
-        this.data = data;
+    }
+
+    // Metadata-only instance for DBFileRepository.findMetadataById (not managed, carries no content)
+    public DBFile(String id, String fileName, String fileType, Long fileSize, String contentHash,
+                  String storageBackend, String storageLocation, String contentEncoding, LocalDateTime uploadedAt) {
+        this.id = id;
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.fileSize = fileSize;
+        this.contentHash = contentHash;
+        this.storageBackend = storageBackend;
+        this.storageLocation = storageLocation;
+        this.contentEncoding = contentEncoding;
+        this.uploadedAt = uploadedAt;
     }
 
     public String getId() {
@@ -53,6 +95,54 @@ public class DBFile {
         this.fileType = fileType;
     }
 
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getStorageBackend() {
+        return storageBackend;
+    }
+
+    public void setStorageBackend(String storageBackend) {
+        this.storageBackend = storageBackend;
+    }
+
+    public String getStorageLocation() {
+        return storageLocation;
+    }
+
+    public void setStorageLocation(String storageLocation) {
+        this.storageLocation = storageLocation;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public void setContentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+
     public byte[] getData() {
         return data;
     }
@@ -0,0 +1,137 @@
+package com.careerportal.career_portal_backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Queued generation of a derived image (photo thumbnail or PDF first-page preview) for a stored
+ * file. The table is the work queue: rows survive restarts and are claimed by the worker.
+ */
+@Entity
+@Table(name = "derivative_jobs", indexes = {
+        @Index(name = "idx_derivative_jobs_status_id", columnList = "status, id"),
+        @Index(name = "idx_derivative_jobs_source_file", columnList = "sourceFileId, kind")
+})
+public class DerivativeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String sourceFileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Kind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // DBFile holding the generated PNG once the job is DONE
+    @Column(length = 36)
+    private String derivedFileId;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public DerivativeJob() {
+    }
+
+    public DerivativeJob(String sourceFileId, Kind kind) {
+        this.sourceFileId = sourceFileId;
+        this.kind = kind;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSourceFileId() {
+        return sourceFileId;
+    }
+
+    public void setSourceFileId(String sourceFileId) {
+        this.sourceFileId = sourceFileId;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getDerivedFileId() {
+        return derivedFileId;
+    }
+
+    public void setDerivedFileId(String derivedFileId) {
+        this.derivedFileId = derivedFileId;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public enum Kind {
+        THUMBNAIL, PREVIEW
+    }
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+}
@@ -1,11 +1,16 @@
 package com.careerportal.career_portal_backend.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+        // Back the keyset pagination sort orders of the job search
+        @Index(name = "idx_job_postings_date_posted_id", columnList = "datePosted, id"),
+        @Index(name = "idx_job_postings_job_title_id", columnList = "jobTitle, id")
+})
 public class JobPosting {
 
     @Id
@@ -33,6 +38,12 @@ public class JobPosting {
     private LocalDate datePosted = LocalDate.now();
     private Boolean isActive = true;
 
+    // Denormalised number of applications. Only changed through the atomic UPDATEs in
+    // JobPostingRepository (never written by entity saves) and reconciled periodically.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long applicationCount = 0L;
+
     // One-to-Many relationship with applications for this job
     @OneToMany(mappedBy = "jobPosting", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Application> applications;
@@ -144,6 +155,14 @@ public class JobPosting {
 		this.isActive = isActive;
 	}
 
+	public Long getApplicationCount() {
+		return applicationCount;
+	}
+
+	public void setApplicationCount(Long applicationCount) {
+		this.applicationCount = applicationCount;
+	}
+
 	public List<Application> getApplications() {
 		return applications;
 	}
@@ -24,6 +24,26 @@ public class ApplicationResponseDto {
     public ApplicationResponseDto() {
     }
 
+    // Used by the JPQL constructor projections in ApplicationRepository
+    public ApplicationResponseDto(Long id, String jobTitle, String companyName, String status,
+                                  LocalDateTime applicationDate, Long jobPostingId, Long jobSeekerProfileId,
+                                  String recruiterNotes, String candidateName, String candidateEmail,
+                                  String candidatePhone, String resumeFileName) {
+        this.id = id;
+        this.jobTitle = jobTitle;
+        this.companyName = companyName;
+        this.status = status;
+        this.applicationDate = applicationDate;
+        this.jobPostingId = jobPostingId;
+        this.jobSeekerProfileId = jobSeekerProfileId;
+        this.recruiterNotes = recruiterNotes;
+        this.candidateName = candidateName;
+        this.candidateEmail = candidateEmail;
+        this.candidatePhone = candidatePhone;
+        this.resumeFileName = resumeFileName;
+        this.hasResume = resumeFileName != null && !resumeFileName.isEmpty();
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,42 @@
+package com.careerportal.career_portal_backend.payload;
+
+import java.util.List;
+
+public class CandidateMatchDto {
+    private JobSeekerDto candidate;
+    private double score; // Jaccard similarity of the two skill sets, 0 to 1
+    private List<String> matchedSkills;
+
+    public CandidateMatchDto() {
+    }
+
+    public CandidateMatchDto(JobSeekerDto candidate, double score, List<String> matchedSkills) {
+        this.candidate = candidate;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+    }
+
+    public JobSeekerDto getCandidate() {
+        return candidate;
+    }
+
+    public void setCandidate(JobSeekerDto candidate) {
+        this.candidate = candidate;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+}
@@ -0,0 +1,64 @@
+package com.careerportal.career_portal_backend.payload;
+
+import java.util.List;
+import java.util.Map;
+
+public class CandidateSearchResultDto {
+    private List<JobSeekerDto> candidates; // best match first
+    private long total;
+    private int page;
+    private int size;
+    private Map<String, Map<String, Integer>> facets; // facet -> value -> number of matching candidates
+
+    public CandidateSearchResultDto() {
+    }
+
+    public CandidateSearchResultDto(List<JobSeekerDto> candidates, long total, int page, int size,
+                                    Map<String, Map<String, Integer>> facets) {
+        this.candidates = candidates;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.facets = facets;
+    }
+
+    public List<JobSeekerDto> getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(List<JobSeekerDto> candidates) {
+        this.candidates = candidates;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,61 @@
+package com.careerportal.career_portal_backend.payload;
+
+import java.util.List;
+
+public class EmployerSuggestionDto {
+    private List<Company> companies;
+    private List<String> industries;
+
+    public EmployerSuggestionDto() {
+    }
+
+    public EmployerSuggestionDto(List<Company> companies, List<String> industries) {
+        this.companies = companies;
+        this.industries = industries;
+    }
+
+    public List<Company> getCompanies() {
+        return companies;
+    }
+
+    public void setCompanies(List<Company> companies) {
+        this.companies = companies;
+    }
+
+    public List<String> getIndustries() {
+        return industries;
+    }
+
+    public void setIndustries(List<String> industries) {
+        this.industries = industries;
+    }
+
+    public static class Company {
+        private Long id;
+        private String companyName;
+
+        public Company() {
+        }
+
+        public Company(Long id, String companyName) {
+            this.id = id;
+            this.companyName = companyName;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getCompanyName() {
+            return companyName;
+        }
+
+        public void setCompanyName(String companyName) {
+            this.companyName = companyName;
+        }
+    }
+}
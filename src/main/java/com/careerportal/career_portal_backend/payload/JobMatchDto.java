@@ -0,0 +1,42 @@
+package com.careerportal.career_portal_backend.payload;
+
+import java.util.List;
+
+public class JobMatchDto {
+    private JobPostingDto job;
+    private double score; // Jaccard similarity of the two skill sets, 0 to 1
+    private List<String> matchedSkills;
+
+    public JobMatchDto() {
+    }
+
+    public JobMatchDto(JobPostingDto job, double score, List<String> matchedSkills) {
+        this.job = job;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+    }
+
+    public JobPostingDto getJob() {
+        return job;
+    }
+
+    public void setJob(JobPostingDto job) {
+        this.job = job;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+}
@@ -0,0 +1,32 @@
+package com.careerportal.career_portal_backend.payload;
+
+import java.util.List;
+
+public class JobPostingPageDto {
+    private List<JobPostingDto> jobs;
+    private String nextCursor; // null when this is the last page
+
+    public JobPostingPageDto() {
+    }
+
+    public JobPostingPageDto(List<JobPostingDto> jobs, String nextCursor) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<JobPostingDto> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobPostingDto> jobs) {
+        this.jobs = jobs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
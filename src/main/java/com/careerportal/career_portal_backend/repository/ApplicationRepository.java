@@ -1,17 +1,55 @@
 package com.careerportal.career_portal_backend.repository;
 
 import com.careerportal.career_portal_backend.entity.Application;
+import com.careerportal.career_portal_backend.payload.ApplicationResponseDto;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
-    // Find all applications submitted for a specific job post
+    String RESPONSE_PROJECTION = "select new com.careerportal.career_portal_backend.payload.ApplicationResponseDto(" +
+            "a.id, j.jobTitle, e.companyName, a.status, a.applicationDate, j.id, p.id, a.recruiterNotes, " +
+            "p.name, p.email, p.mobile, a.resumeFileName) " +
+            "from Application a join a.jobPosting j join j.employer e join a.jobSeekerProfile p ";
+
+    // Find all applications submitted for a specific job post (job, employer and applicant fetched in the same statement)
+    @EntityGraph(attributePaths = {"jobPosting", "jobPosting.employer", "jobSeekerProfile"})
     List<Application> findByJobPosting_Id(Long jobId);
 
-    // Find all applications submitted by a specific job seeker
+    // Find all applications submitted by a specific job seeker (job, employer and applicant fetched in the same statement)
+    @EntityGraph(attributePaths = {"jobPosting", "jobPosting.employer", "jobSeekerProfile"})
     List<Application> findByJobSeekerProfile_Id(Long seekerId);
 
+    // Read models for the application lists: one statement selecting only the columns ApplicationResponseDto needs
+    @Query(RESPONSE_PROJECTION + "where j.id = :jobId order by a.applicationDate desc")
+    List<ApplicationResponseDto> findResponsesByJobPostingId(@Param("jobId") Long jobId);
+
+    @Query(RESPONSE_PROJECTION + "where p.id = :seekerId order by a.applicationDate desc")
+    List<ApplicationResponseDto> findResponsesByJobSeekerProfileId(@Param("seekerId") Long seekerId);
+
     // Count applications for a specific job posting
     Long countByJobPosting_Id(Long jobId);
+
+    // Count applications for a whole set of job postings in one GROUP BY query.
+    // Jobs without applications are absent from the result.
+    @Query("select a.jobPosting.id as jobId, count(a) as applicationCount from Application a " +
+            "where a.jobPosting.id in :jobIds group by a.jobPosting.id")
+    List<JobApplicationCount> countByJobPostingIds(@Param("jobIds") Collection<Long> jobIds);
+
+    @Query("select a.resumeFilePath from Application a where a.resumeFilePath is not null")
+    List<String> findAllResumeFilePaths();
+
+    // Which of the given resume paths applications still point at
+    @Query("select a.resumeFilePath from Application a where a.resumeFilePath in :paths")
+    List<String> findResumeFilePathsIn(@Param("paths") Collection<String> paths);
+
+    interface JobApplicationCount {
+        long getJobId();
+        long getApplicationCount();
+    }
 }
\ No newline at end of file
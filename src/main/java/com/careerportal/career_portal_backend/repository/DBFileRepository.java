@@ -1,12 +1,43 @@
 package com.careerportal.career_portal_backend.repository;
 
 import com.careerportal.career_portal_backend.entity.DBFile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DBFileRepository extends JpaRepository<DBFile, String> {
     Optional<DBFile> findByFileName(String fileName);
+
+    // Only the metadata columns; the content is read through the file's BlobStore
+    @Query("select new com.careerportal.career_portal_backend.entity.DBFile(f.id, f.fileName, f.fileType, f.fileSize, " +
+            "f.contentHash, f.storageBackend, f.storageLocation, f.contentEncoding, f.uploadedAt) from DBFile f where f.id = :id")
+    Optional<DBFile> findMetadataById(@Param("id") String id);
+
+    // A row already pointing at stored content with this hash, for deduplicating uploads
+    Optional<DBFile> findFirstByContentHashAndStorageBackendAndStorageLocationIsNotNull(String contentHash, String storageBackend);
+
+    // Whether any row still points at a stored blob
+    boolean existsByStorageBackendAndStorageLocation(String storageBackend, String storageLocation);
+
+    // Keyset page of files uploaded before the cutoff (rows from before upload times were recorded included)
+    @Query("select f.id as id, f.fileSize as fileSize from DBFile f " +
+            "where f.id > :afterId and (f.uploadedAt is null or f.uploadedAt < :cutoff) order by f.id")
+    List<FileSize> findUploadedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") String afterId,
+                                      Pageable pageable);
+
+    // Files whose content still lives in the db_files.data column
+    @Query("select f.id from DBFile f where f.storageLocation is null and f.data is not null")
+    List<String> findIdsStoredInDatabase();
+
+    interface FileSize {
+        String getId();
+        Long getFileSize();
+    }
 }
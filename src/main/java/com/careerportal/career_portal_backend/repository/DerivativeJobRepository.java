@@ -0,0 +1,66 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DerivativeJobRepository extends JpaRepository<DerivativeJob, Long> {
+
+    @Query("select j.id from DerivativeJob j where j.status = :status order by j.id")
+    List<Long> findIdsByStatus(@Param("status") DerivativeJob.Status status, Pageable pageable);
+
+    Optional<DerivativeJob> findFirstBySourceFileIdAndKindAndStatus(String sourceFileId, DerivativeJob.Kind kind,
+                                                                    DerivativeJob.Status status);
+
+    List<DerivativeJob> findBySourceFileId(String sourceFileId);
+
+    @Query("select j.derivedFileId from DerivativeJob j where j.derivedFileId is not null")
+    List<String> findAllDerivedFileIds();
+
+    @Query("select j.derivedFileId from DerivativeJob j where j.derivedFileId in :fileIds")
+    List<String> findDerivedFileIdsIn(@Param("fileIds") Collection<String> fileIds);
+
+    // Atomically moves a PENDING job to RUNNING; returns 0 if another worker got there first
+    @Transactional
+    @Modifying
+    @Query("update DerivativeJob j set j.status = com.careerportal.career_portal_backend.entity.DerivativeJob.Status.RUNNING, " +
+            "j.attempts = j.attempts + 1, j.updatedAt = :now " +
+            "where j.id = :id and j.status = com.careerportal.career_portal_backend.entity.DerivativeJob.Status.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Records the outcome of a claimed job; returns 0 if the job was deleted or re-queued meanwhile
+    @Transactional
+    @Modifying
+    @Query("update DerivativeJob j set j.status = :status, j.derivedFileId = :derivedFileId, " +
+            "j.lastError = :lastError, j.updatedAt = :now " +
+            "where j.id = :id and j.status = com.careerportal.career_portal_backend.entity.DerivativeJob.Status.RUNNING")
+    int finish(@Param("id") Long id, @Param("status") DerivativeJob.Status status,
+               @Param("derivedFileId") String derivedFileId, @Param("lastError") String lastError,
+               @Param("now") LocalDateTime now);
+
+    // Undoes a claim whose job never started, so the attempt does not count
+    @Transactional
+    @Modifying
+    @Query("update DerivativeJob j set j.status = com.careerportal.career_portal_backend.entity.DerivativeJob.Status.PENDING, " +
+            "j.attempts = j.attempts - 1 " +
+            "where j.id = :id and j.status = com.careerportal.career_portal_backend.entity.DerivativeJob.Status.RUNNING")
+    int release(@Param("id") Long id);
+
+    // Jobs claimed before the cutoff and never finished belong to an instance that stopped; other
+    // instances' live jobs were claimed more recently and are left alone
+    @Transactional
+    @Modifying
+    @Query("update DerivativeJob j set j.status = com.careerportal.career_portal_backend.entity.DerivativeJob.Status.PENDING " +
+            "where j.status = com.careerportal.career_portal_backend.entity.DerivativeJob.Status.RUNNING " +
+            "and j.updatedAt < :staleBefore")
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore);
+}
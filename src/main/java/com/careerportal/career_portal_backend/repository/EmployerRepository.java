@@ -2,14 +2,33 @@ package com.careerportal.career_portal_backend.repository;
 
 import com.careerportal.career_portal_backend.entity.Employer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface EmployerRepository extends JpaRepository<Employer, Long> {
+public interface EmployerRepository extends JpaRepository<Employer, Long>,
+        JpaSpecificationExecutor<Employer> {
 
     // Find the employer profile by the linked User's ID
     Optional<Employer> findByUser_Id(Long userId);
+
+    // Id-only lookup used when authenticating a request
+    @Query("select e.id from Employer e where e.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
     
     // Check if company name already exists
     Boolean existsByCompanyName(String companyName);
+
+    // Just the fields the typeahead index needs, so building it does not load whole entities
+    @Query("select e.id as id, e.companyName as companyName, e.industry as industry from Employer e")
+    List<SuggestFields> findAllSuggestFields();
+
+    interface SuggestFields {
+        Long getId();
+        String getCompanyName();
+        String getIndustry();
+    }
 }
@@ -2,6 +2,10 @@ package com.careerportal.career_portal_backend.repository;
 
 import com.careerportal.career_portal_backend.entity.JobPosting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
@@ -9,4 +13,26 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long>,
         JpaSpecificationExecutor<JobPosting> {
 
     List<JobPosting> findByEmployer_Id(Long employerId);
-}
\ No newline at end of file
+
+    // Atomic in-database increment, safe under concurrent applications
+    @Modifying
+    @Query("update JobPosting j set j.applicationCount = j.applicationCount + 1 where j.id = :jobId")
+    int incrementApplicationCount(@Param("jobId") Long jobId);
+
+    // Resets every counter that drifted from the real number of application rows; returns the number fixed
+    @Modifying
+    @Query("update JobPosting j set j.applicationCount = " +
+            "(select count(a) from Application a where a.jobPosting = j) " +
+            "where j.applicationCount <> (select count(a) from Application a where a.jobPosting = j)")
+    int reconcileApplicationCounts();
+
+    // Id and required skills of every posting open to applicants, for building the skill match index
+    @Query("select j.id as id, j.requiredSkills as requiredSkills from JobPosting j " +
+            "where j.isActive is null or j.isActive = true")
+    List<JobSkills> findActiveJobSkills();
+
+    interface JobSkills {
+        Long getId();
+        String getRequiredSkills();
+    }
+}
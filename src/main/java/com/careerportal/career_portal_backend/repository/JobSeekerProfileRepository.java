@@ -1,11 +1,77 @@
 package com.careerportal.career_portal_backend.repository;
 import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JobSeekerProfileRepository extends JpaRepository<JobSeekerProfile, Long> {
 
+    String LISTING_PROJECTION = "select new com.careerportal.career_portal_backend.payload.JobSeekerDto(" +
+            "p.id, p.name, p.email, p.mobile, p.status, p.gender, p.dob, p.skills, p.createdAt) " +
+            "from JobSeekerProfile p ";
+
+    // Every filter is optional: a null parameter switches its condition off
+    String LISTING_FILTER = "where (:status is null or p.status = :status) " +
+            "and (:gender is null or p.gender = :gender) " +
+            "and (:skill is null or lower(p.skills) like :skill) " +
+            "and (:createdFrom is null or p.createdAt >= :createdFrom) " +
+            "and (:createdBefore is null or p.createdAt < :createdBefore)";
+
     // Use JPA property expression to find the profile by the linked User's ID
     Optional<JobSeekerProfile> findByUser_Id(Long userId);
-}
\ No newline at end of file
+
+    // Id-only lookup used when authenticating a request
+    @Query("select p.id from JobSeekerProfile p where p.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    @Query("select p.resumeFilePath from JobSeekerProfile p where p.resumeFilePath is not null")
+    List<String> findAllResumeFilePaths();
+
+    @Query("select p.photoFilePath from JobSeekerProfile p where p.photoFilePath is not null")
+    List<String> findAllPhotoFilePaths();
+
+    // Resume and photo paths of the profiles pointing at any of the given paths
+    @Query("select p.resumeFilePath as resumeFilePath, p.photoFilePath as photoFilePath from JobSeekerProfile p " +
+            "where p.resumeFilePath in :paths or p.photoFilePath in :paths")
+    List<FilePaths> findFilePathsIn(@Param("paths") Collection<String> paths);
+
+    // Read model for the job seeker listing: one page, selecting only the columns JobSeekerDto lists
+    @Query(value = LISTING_PROJECTION + LISTING_FILTER,
+            countQuery = "select count(p) from JobSeekerProfile p " + LISTING_FILTER)
+    Page<JobSeekerDto> findListing(@Param("status") JobSeekerProfile.ExperienceStatus status,
+                                   @Param("gender") JobSeekerProfile.Gender gender,
+                                   @Param("skill") String skillPattern,
+                                   @Param("createdFrom") LocalDateTime createdFrom,
+                                   @Param("createdBefore") LocalDateTime createdBefore,
+                                   Pageable pageable);
+
+    // Listing rows for one page of candidate search hits; the caller restores the rank order
+    @Query(LISTING_PROJECTION + "where p.id in :ids")
+    List<JobSeekerDto> findListingByIds(@Param("ids") Collection<Long> ids);
+
+    // Every profile with its education details in one statement, for building the candidate search index
+    @Query("select distinct p from JobSeekerProfile p left join fetch p.educationDetails")
+    List<JobSeekerProfile> findAllWithEducationDetails();
+
+    // Id and skills of every profile, for building the skill match index without loading whole entities
+    @Query("select p.id as id, p.skills as skills from JobSeekerProfile p")
+    List<ProfileSkills> findAllProfileSkills();
+
+    interface FilePaths {
+        String getResumeFilePath();
+        String getPhotoFilePath();
+    }
+
+    interface ProfileSkills {
+        Long getId();
+        String getSkills();
+    }
+}
@@ -0,0 +1,39 @@
+package com.careerportal.career_portal_backend.scheduler;
+
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Periodically corrects job_postings.application_count against the applications table,
+ * so any drift (e.g. rows removed outside the service layer) does not persist.
+ */
+@Component
+public class ApplicationCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationCountReconciler.class);
+
+    private final JobPostingRepository jobPostingRepository;
+
+    public ApplicationCountReconciler(JobPostingRepository jobPostingRepository) {
+        this.jobPostingRepository = jobPostingRepository;
+    }
+
+    // Also runs at startup, which backfills the column right after it is first added
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.application-count.reconcile-cron:0 0 * * * *}")
+    @Transactional
+    public void reconcile() {
+        int fixed = jobPostingRepository.reconcileApplicationCounts();
+        if (fixed > 0) {
+            logger.warn("Reconciled application counts for {} job postings", fixed);
+        } else {
+            logger.debug("Application counts are consistent");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.careerportal.career_portal_backend.scheduler;
+
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import com.careerportal.career_portal_backend.repository.DerivativeJobRepository;
+import com.careerportal.career_portal_backend.service.DerivativeService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the derivative_jobs queue on a small fixed pool. Each poll only fetches as many jobs as
+ * the pool can take, so a burst of uploads queues in the database rather than in memory. A job is
+ * claimed (PENDING to RUNNING) before it is handed to the pool, so it is submitted once even with
+ * several instances polling the same table.
+ */
+@Component
+public class DerivativeJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DerivativeJobWorker.class);
+
+    private final DerivativeJobRepository derivativeJobRepository;
+    private final DerivativeService derivativeService;
+    private final int capacity;
+    private final Duration staleAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Not a bean, so Spring's applicationTaskExecutor (used by async MVC) stays as configured
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    public DerivativeJobWorker(DerivativeJobRepository derivativeJobRepository,
+                               DerivativeService derivativeService,
+                               @Value("${app.derivatives.worker-threads:2}") int workerThreads,
+                               @Value("${app.derivatives.queue-capacity:8}") int queueCapacity,
+                               @Value("${app.derivatives.stale-after:PT15M}") Duration staleAfter) {
+        this.derivativeJobRepository = derivativeJobRepository;
+        this.derivativeService = derivativeService;
+        this.capacity = workerThreads + queueCapacity;
+        this.staleAfter = staleAfter;
+
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("derivatives-");
+        executor.initialize();
+    }
+
+    // Runs at startup and then periodically, so jobs of an instance that died are not stuck until a restart
+    @Scheduled(fixedDelayString = "${app.derivatives.requeue-interval-ms:300000}")
+    public void requeueInterrupted() {
+        int requeued = derivativeJobRepository.requeueStale(LocalDateTime.now().minus(staleAfter));
+        if (requeued > 0) {
+            logger.info("Re-queued {} derivative jobs left running for more than {}", requeued, staleAfter);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.derivatives.poll-interval-ms:2000}")
+    public void poll() {
+        int free = capacity - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+        List<Long> jobIds = derivativeJobRepository.findIdsByStatus(DerivativeJob.Status.PENDING, PageRequest.of(0, free));
+        for (Long jobId : jobIds) {
+            if (derivativeJobRepository.claim(jobId, LocalDateTime.now()) == 0) {
+                continue; // taken by another instance since the fetch
+            }
+            inFlight.incrementAndGet();
+            try {
+                executor.execute(() -> run(jobId));
+            } catch (RejectedExecutionException ex) {
+                // Pool is shutting down or full; hand the job back and leave the rest for the next poll
+                inFlight.decrementAndGet();
+                derivativeJobRepository.release(jobId);
+                logger.debug("Derivative job {} rejected by the worker pool, released", jobId);
+                return;
+            }
+        }
+    }
+
+    private void run(Long jobId) {
+        try {
+            derivativeService.process(jobId);
+        } catch (Exception ex) {
+            logger.error("Derivative job {} failed", jobId, ex);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,150 @@
+package com.careerportal.career_portal_backend.scheduler;
+
+import com.careerportal.career_portal_backend.repository.ApplicationRepository;
+import com.careerportal.career_portal_backend.repository.DBFileRepository;
+import com.careerportal.career_portal_backend.repository.DerivativeJobRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.service.FileStorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mark-and-sweep collection of db_files rows nothing points at: abandoned uploads and resumes of
+ * deleted applications. Mark gathers every file id referenced by applications, job seeker profiles
+ * and generated thumbnails/previews; sweep walks the files older than the grace period in batches
+ * and deletes the unreferenced ones. The mark is only a snapshot, so each batch of candidates is
+ * checked against the referencing tables again (one IN query per table) in the transaction that
+ * deletes them. In dry-run mode it only reports what it would reclaim.
+ */
+@Component
+public class OrphanedFileCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrphanedFileCollector.class);
+
+    private final DBFileRepository dbFileRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobSeekerProfileRepository jobSeekerProfileRepository;
+    private final DerivativeJobRepository derivativeJobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final boolean dryRun;
+
+    public OrphanedFileCollector(DBFileRepository dbFileRepository,
+                                 ApplicationRepository applicationRepository,
+                                 JobSeekerProfileRepository jobSeekerProfileRepository,
+                                 DerivativeJobRepository derivativeJobRepository,
+                                 FileStorageService fileStorageService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.file-gc.grace-period:PT24H}") Duration gracePeriod,
+                                 @Value("${app.file-gc.batch-size:500}") int batchSize,
+                                 @Value("${app.file-gc.dry-run:true}") boolean dryRun) {
+        this.dbFileRepository = dbFileRepository;
+        this.applicationRepository = applicationRepository;
+        this.jobSeekerProfileRepository = jobSeekerProfileRepository;
+        this.derivativeJobRepository = derivativeJobRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+        this.dryRun = dryRun;
+    }
+
+    @Scheduled(cron = "${app.file-gc.cron:0 30 3 * * *}")
+    public void collect() {
+        // Only old files are candidates; an upload still being attached to its record is left alone
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        Set<String> referenced = markReferencedFileIds();
+
+        long scanned = 0;
+        long orphaned = 0;
+        long reclaimedBytes = 0;
+        String afterId = "";
+        List<DBFileRepository.FileSize> batch;
+        do {
+            batch = dbFileRepository.findUploadedBefore(cutoff, afterId, PageRequest.of(0, batchSize));
+            scanned += batch.size();
+            Map<String, Long> candidates = new HashMap<>();
+            for (DBFileRepository.FileSize file : batch) {
+                if (!referenced.contains(file.getId())) {
+                    candidates.put(file.getId(), file.getFileSize() != null ? file.getFileSize() : 0);
+                }
+            }
+            for (String fileId : sweep(candidates.keySet())) {
+                orphaned++;
+                reclaimedBytes += candidates.get(fileId);
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+
+        logger.info("File GC{}: scanned {} files older than {}, {} orphaned, {} bytes {}",
+                dryRun ? " (dry run)" : "", scanned, gracePeriod, orphaned, reclaimedBytes,
+                dryRun ? "reclaimable" : "reclaimed");
+    }
+
+    // A record may have started pointing at a candidate after the mark, so look again right before deleting
+    private Set<String> sweep(Set<String> candidates) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return transactionTemplate.execute(status -> {
+            Set<String> orphans = new HashSet<>(candidates);
+            orphans.removeAll(referencedAmong(candidates));
+            if (!dryRun) {
+                fileStorageService.deleteFiles(orphans);
+            }
+            return orphans;
+        });
+    }
+
+    // Matches every form a path is stored in, so each table is one indexable IN query
+    private Set<String> referencedAmong(Set<String> fileIds) {
+        Set<String> paths = new HashSet<>(fileIds);
+        for (String fileId : fileIds) {
+            paths.add("resumes/" + fileId);
+            paths.add("photos/" + fileId);
+        }
+        Set<String> referenced = new HashSet<>(derivativeJobRepository.findDerivedFileIdsIn(fileIds));
+        applicationRepository.findResumeFilePathsIn(paths).forEach(path -> referenced.add(fileIdOf(path)));
+        for (JobSeekerProfileRepository.FilePaths profile : jobSeekerProfileRepository.findFilePathsIn(paths)) {
+            if (profile.getResumeFilePath() != null) {
+                referenced.add(fileIdOf(profile.getResumeFilePath()));
+            }
+            if (profile.getPhotoFilePath() != null) {
+                referenced.add(fileIdOf(profile.getPhotoFilePath()));
+            }
+        }
+        return referenced;
+    }
+
+    private Set<String> markReferencedFileIds() {
+        Set<String> referenced = new HashSet<>();
+        applicationRepository.findAllResumeFilePaths().forEach(path -> referenced.add(fileIdOf(path)));
+        jobSeekerProfileRepository.findAllResumeFilePaths().forEach(path -> referenced.add(fileIdOf(path)));
+        jobSeekerProfileRepository.findAllPhotoFilePaths().forEach(path -> referenced.add(fileIdOf(path)));
+        referenced.addAll(derivativeJobRepository.findAllDerivedFileIds());
+        return referenced;
+    }
+
+    // Paths are stored as "resumes/{id}", "photos/{id}" or the bare id
+    private static String fileIdOf(String path) {
+        return path.contains("/") ? path.substring(path.lastIndexOf("/") + 1) : path;
+    }
+}
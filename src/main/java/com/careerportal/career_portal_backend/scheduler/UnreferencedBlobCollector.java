@@ -0,0 +1,48 @@
+package com.careerportal.career_portal_backend.scheduler;
+
+import com.careerportal.career_portal_backend.repository.DBFileRepository;
+import com.careerportal.career_portal_backend.storage.FileSystemBlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Removes filesystem blobs that no db_files row points at any more. Deleting a file only deletes its row,
+ * because other rows may share the blob and an upload may be about to reuse it; this pass deletes the blob
+ * once it has stayed unreferenced and unused for the grace period, which must exceed the longest upload.
+ */
+@Component
+public class UnreferencedBlobCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreferencedBlobCollector.class);
+
+    private final FileSystemBlobStore fileSystemBlobStore;
+    private final DBFileRepository dbFileRepository;
+    private final Duration gracePeriod;
+
+    public UnreferencedBlobCollector(FileSystemBlobStore fileSystemBlobStore,
+                                     DBFileRepository dbFileRepository,
+                                     @Value("${app.storage.blob-gc.grace-period:PT6H}") Duration gracePeriod) {
+        this.fileSystemBlobStore = fileSystemBlobStore;
+        this.dbFileRepository = dbFileRepository;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(cron = "${app.storage.blob-gc.cron:0 0 4 * * *}")
+    public void collect() {
+        try {
+            int removed = fileSystemBlobStore.removeUnreferenced(Instant.now().minus(gracePeriod),
+                    location -> dbFileRepository.existsByStorageBackendAndStorageLocation(
+                            FileSystemBlobStore.NAME, location));
+            logger.info("Blob GC: removed {} unreferenced blobs unused for {}", removed, gracePeriod);
+        } catch (IOException ex) {
+            logger.error("Blob GC failed", ex);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.careerportal.career_portal_backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Boolean candidate query, parsed from text such as {@code java AND (spring OR "spring boot") -php}.
+ * Words next to each other are ANDed; AND, OR and NOT must be upper case, '-' is a short NOT and a
+ * trailing '*' matches every indexed term starting with the word. Words go through TextTokenizer,
+ * so "c++" and "node.js" are matched the same way they were indexed.
+ */
+final class CandidateQuery {
+
+    static final int MAX_CLAUSES = 64;
+    static final int MAX_DEPTH = 32;
+
+    sealed interface Node permits Term, And, Or, Not {
+    }
+
+    record Term(String term, boolean prefix) implements Node {
+    }
+
+    record And(List<Node> clauses) implements Node {
+    }
+
+    record Or(List<Node> clauses) implements Node {
+    }
+
+    record Not(Node clause) implements Node {
+    }
+
+    private final List<String> tokens;
+    private int position = 0;
+    private int clauses = 0;
+    private int depth = 0;
+
+    private CandidateQuery(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /** Parses the query; null means it has nothing searchable in it and matches every candidate */
+    static Node parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        CandidateQuery parser = new CandidateQuery(lex(text));
+        Node node = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.tokens.get(parser.position) + "' in query");
+        }
+        return node;
+    }
+
+    private Node parseOr() {
+        List<Node> clauses = new ArrayList<>();
+        add(clauses, parseAnd());
+        while (accept("OR")) {
+            add(clauses, parseAnd());
+        }
+        return combine(clauses, false);
+    }
+
+    private Node parseAnd() {
+        List<Node> clauses = new ArrayList<>();
+        add(clauses, parseUnary());
+        while (position < tokens.size() && !peek("OR") && !peek(")")) {
+            accept("AND");
+            add(clauses, parseUnary());
+        }
+        return combine(clauses, true);
+    }
+
+    private Node parseUnary() {
+        if (accept("NOT") || accept("-")) {
+            Node clause = nested(this::parseUnary);
+            return clause == null ? null : new Not(clause);
+        }
+        if (accept("(")) {
+            Node node = nested(this::parseOr);
+            if (!accept(")")) {
+                throw new IllegalArgumentException("Missing ')' in query");
+            }
+            return node;
+        }
+        if (position >= tokens.size() || peek(")") || peek("AND") || peek("OR")) {
+            throw new IllegalArgumentException("Expected a search term in query");
+        }
+        return word(tokens.get(position++));
+    }
+
+    // Caps NOT and parenthesis nesting so a hostile query cannot overflow the stack
+    private Node nested(Supplier<Node> parser) {
+        if (++depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Query is nested more than " + MAX_DEPTH + " levels deep");
+        }
+        try {
+            return parser.get();
+        } finally {
+            depth--;
+        }
+    }
+
+    // A word may split into several terms ("spring-boot"), which must all match
+    private Node word(String word) {
+        boolean prefix = word.endsWith("*");
+        List<String> terms = new ArrayList<>(TextTokenizer.tokenize(prefix ? word.substring(0, word.length() - 1) : word));
+        List<Node> clauses = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            if (++this.clauses > MAX_CLAUSES) {
+                throw new IllegalArgumentException("Query has more than " + MAX_CLAUSES + " terms");
+            }
+            clauses.add(new Term(terms.get(i), prefix && i == terms.size() - 1));
+        }
+        return combine(clauses, true);
+    }
+
+    private static void add(List<Node> clauses, Node node) {
+        if (node != null) {
+            clauses.add(node);
+        }
+    }
+
+    private static Node combine(List<Node> clauses, boolean and) {
+        if (clauses.isEmpty()) {
+            return null;
+        }
+        if (clauses.size() == 1) {
+            return clauses.get(0);
+        }
+        return and ? new And(clauses) : new Or(clauses);
+    }
+
+    private boolean peek(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    private boolean accept(String token) {
+        if (peek(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    // Splits on whitespace and quotes, keeping parentheses and a leading '-' as tokens of their own
+    private static List<String> lex(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || c == '"' || c == '(' || c == ')') {
+                flush(word, tokens);
+                if (c == '(' || c == ')') {
+                    tokens.add(String.valueOf(c));
+                }
+            } else if (c == '-' && word.isEmpty()) {
+                tokens.add("-");
+            } else {
+                word.append(c);
+            }
+        }
+        flush(word, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder word, List<String> tokens) {
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    /** Terms that add to a candidate's score: everything not under a NOT */
+    static void collectScoringTerms(Node node, Set<Term> terms) {
+        if (node instanceof Term term) {
+            terms.add(term);
+        } else if (node instanceof And and) {
+            and.clauses().forEach(clause -> collectScoringTerms(clause, terms));
+        } else if (node instanceof Or or) {
+            or.clauses().forEach(clause -> collectScoringTerms(clause, terms));
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.EducationDetail;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory candidate search over job seeker profiles and their education details. Every profile gets a
+ * dense ordinal; each term, skill, qualification, experience status and year of passing maps to a BitSet
+ * of ordinals, so boolean queries and facet counts are word-wise set operations. Built once at startup
+ * and kept in sync through JobSeekerProfileChangedEvent after each commit.
+ */
+@Component
+public class CandidateSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateSearchIndex.class);
+
+    public static final String SKILL_FACET = "skill";
+    public static final String QUALIFICATION_FACET = "qualification";
+    public static final String STATUS_FACET = "status";
+
+    // Field weights for ranking: a match in the skills list counts more than one in free text
+    private static final float SKILLS_WEIGHT = 3f;
+    private static final float EDUCATION_DETAIL_WEIGHT = 2f;
+    private static final float TEXT_WEIGHT = 1f;
+    private static final int MAX_PREFIX_EXPANSIONS = 256;
+
+    private final JobSeekerProfileRepository profileRepository;
+
+    // BitSet is not thread-safe: searches share the read lock, index updates take the write lock.
+    // Writers are also synchronized on the index, so an update waits for a rebuild's load to finish
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    // Sorted so that a prefix query can expand to every indexed term it starts
+    private final TreeMap<String, BitSet> postings = new TreeMap<>();
+    private final Facet skills = new Facet();
+    private final Facet qualifications = new Facet();
+    private final Map<JobSeekerProfile.ExperienceStatus, BitSet> statuses = new EnumMap<>(JobSeekerProfile.ExperienceStatus.class);
+    private final TreeMap<Integer, BitSet> yearsOfPassing = new TreeMap<>();
+    private volatile boolean ready = false;
+
+    public CandidateSearchIndex(JobSeekerProfileRepository profileRepository) {
+        this.profileRepository = profileRepository;
+    }
+
+    // Updates committed while the profiles load wait on the monitor and are applied on top of the new index
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        logger.info("Building candidate search index");
+        List<JobSeekerProfile> profiles = profileRepository.findAllWithEducationDetails();
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            ordinals.clear();
+            live.clear();
+            postings.clear();
+            skills.clear();
+            qualifications.clear();
+            statuses.clear();
+            yearsOfPassing.clear();
+            for (JobSeekerProfile profile : profiles) {
+                add(profile);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        logger.info("Candidate search index built with {} profiles and {} terms", ordinals.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Runs after commit (or straight away when published outside a transaction)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(JobSeekerProfileChangedEvent event) {
+        index(event.profile());
+    }
+
+    /** Adds a profile (with its education details) to the index, replacing whatever was indexed for it before */
+    public synchronized void index(JobSeekerProfile profile) {
+        if (profile.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            add(profile);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void remove(Long profileId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(profileId);
+            if (ordinal != null) {
+                clear(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a boolean query with optional facet filters and returns one page of profile ids, best match first.
+     * Values within one filter are ORed, different filters are ANDed. Each facet is counted over the matches
+     * of the query and every other filter, so selecting a skill still shows the counts of the other skills.
+     */
+    public Result search(String query, Filters filters, int page, int size, int facetLimit) {
+        CandidateQuery.Node node = CandidateQuery.parse(query);
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = node == null ? (BitSet) live.clone() : evaluate(node);
+            BitSet skillFilter = skills.select(filters.skills());
+            BitSet qualificationFilter = qualifications.select(filters.qualifications());
+            BitSet statusFilter = selectStatuses(filters.statuses());
+            BitSet yearFilter = selectYears(filters.minYearOfPassing(), filters.maxYearOfPassing());
+
+            BitSet scratch = new BitSet();
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(SKILL_FACET, skills.counts(
+                    intersect(matches, qualificationFilter, statusFilter, yearFilter), facetLimit, scratch,
+                    ordinal -> docs.get(ordinal).skillKeys()));
+            facets.put(QUALIFICATION_FACET, qualifications.counts(
+                    intersect(matches, skillFilter, statusFilter, yearFilter), facetLimit, scratch,
+                    ordinal -> docs.get(ordinal).qualificationKeys()));
+            facets.put(STATUS_FACET, statusCounts(
+                    intersect(matches, skillFilter, qualificationFilter, yearFilter), scratch));
+
+            BitSet hits = intersect(matches, skillFilter, qualificationFilter, statusFilter, yearFilter);
+            return new Result(rank(node, hits, page, size), hits.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Indexing (callers hold the write lock) ---
+
+    private void add(JobSeekerProfile profile) {
+        Integer existing = ordinals.get(profile.getId());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            clear(ordinal);
+        } else {
+            ordinal = docs.size();
+            docs.add(null);
+            ordinals.put(profile.getId(), ordinal);
+        }
+
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, profile.getSkills(), SKILLS_WEIGHT);
+        addTerms(weights, profile.getEducation(), TEXT_WEIGHT);
+        addTerms(weights, profile.getWorkExperience(), TEXT_WEIGHT);
+
+        Set<String> skillKeys = new HashSet<>();
+        for (String skill : SkillTokenizer.split(profile.getSkills())) {
+            String key = SkillTokenizer.normalize(skill);
+            if (skillKeys.add(key)) {
+                skills.add(key, skill, ordinal);
+            }
+        }
+
+        Set<String> qualificationKeys = new HashSet<>();
+        Set<Integer> years = new HashSet<>();
+        if (profile.getEducationDetails() != null) {
+            for (EducationDetail education : profile.getEducationDetails()) {
+                addTerms(weights, education.getQualification(), EDUCATION_DETAIL_WEIGHT);
+                addTerms(weights, education.getSpecialization(), EDUCATION_DETAIL_WEIGHT);
+                String key = SkillTokenizer.normalize(education.getQualification());
+                if (!key.isEmpty() && qualificationKeys.add(key)) {
+                    qualifications.add(key, education.getQualification().trim(), ordinal);
+                }
+                if (education.getYearOfPassing() != null && years.add(education.getYearOfPassing())) {
+                    yearsOfPassing.computeIfAbsent(education.getYearOfPassing(), y -> new BitSet()).set(ordinal);
+                }
+            }
+        }
+
+        // Sorted parallel arrays instead of a map per profile; the terms are the posting keys, so each
+        // distinct term string is held once however many profiles use it
+        String[] terms = weights.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        float[] termWeights = new float[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            termWeights[i] = weights.get(terms[i]);
+            Map.Entry<String, BitSet> posting = postings.ceilingEntry(terms[i]);
+            if (posting != null && posting.getKey().equals(terms[i])) {
+                terms[i] = posting.getKey();
+                posting.getValue().set(ordinal);
+            } else {
+                BitSet bits = new BitSet();
+                bits.set(ordinal);
+                postings.put(terms[i], bits);
+            }
+        }
+        if (profile.getStatus() != null) {
+            statuses.computeIfAbsent(profile.getStatus(), s -> new BitSet()).set(ordinal);
+        }
+        docs.set(ordinal, new Doc(profile.getId(), terms, termWeights, skillKeys, qualificationKeys,
+                profile.getStatus(), years));
+        live.set(ordinal);
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : TextTokenizer.tokenize(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    // Removes every bit of the ordinal; the ordinal stays reserved for the same profile
+    private void clear(int ordinal) {
+        Doc doc = docs.get(ordinal);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms()) {
+            clearBit(postings, term, ordinal);
+        }
+        doc.skillKeys().forEach(key -> skills.remove(key, ordinal));
+        doc.qualificationKeys().forEach(key -> qualifications.remove(key, ordinal));
+        if (doc.status() != null) {
+            clearBit(statuses, doc.status(), ordinal);
+        }
+        for (Integer year : doc.yearsOfPassing()) {
+            clearBit(yearsOfPassing, year, ordinal);
+        }
+        docs.set(ordinal, null);
+        live.clear(ordinal);
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitsByKey, K key, int ordinal) {
+        BitSet bits = bitsByKey.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                bitsByKey.remove(key);
+            }
+        }
+    }
+
+    // --- Querying (callers hold the read lock) ---
+
+    private BitSet evaluate(CandidateQuery.Node node) {
+        if (node instanceof CandidateQuery.Term term) {
+            BitSet result = new BitSet();
+            for (String indexed : expand(term)) {
+                result.or(postings.get(indexed));
+            }
+            return result;
+        }
+        if (node instanceof CandidateQuery.And and) {
+            // NOT clauses subtract from the other clauses instead of being complemented on their own
+            BitSet result = null;
+            List<CandidateQuery.Node> negated = new ArrayList<>();
+            for (CandidateQuery.Node clause : and.clauses()) {
+                if (clause instanceof CandidateQuery.Not not) {
+                    negated.add(not.clause());
+                } else if (result == null) {
+                    result = evaluate(clause);
+                } else if (!result.isEmpty()) {
+                    result.and(evaluate(clause));
+                }
+            }
+            if (result == null) {
+                result = (BitSet) live.clone();
+            }
+            for (CandidateQuery.Node clause : negated) {
+                if (result.isEmpty()) {
+                    break;
+                }
+                result.andNot(evaluate(clause));
+            }
+            return result;
+        }
+        if (node instanceof CandidateQuery.Or or) {
+            BitSet result = new BitSet();
+            for (CandidateQuery.Node clause : or.clauses()) {
+                result.or(evaluate(clause));
+            }
+            return result;
+        }
+        BitSet result = (BitSet) live.clone();
+        result.andNot(evaluate(((CandidateQuery.Not) node).clause()));
+        return result;
+    }
+
+    private Collection<String> expand(CandidateQuery.Term term) {
+        if (!term.prefix()) {
+            return postings.containsKey(term.term()) ? List.of(term.term()) : List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String indexed : postings.subMap(term.term(), true, term.term() + Character.MAX_VALUE, true).keySet()) {
+            if (terms.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            terms.add(indexed);
+        }
+        return terms;
+    }
+
+    /**
+     * Scores the hits by the idf-weighted field weights of the positive query terms and keeps only the
+     * page requested in a bounded heap. Ties, and queries without terms, fall back to the newest profile first.
+     */
+    private List<Long> rank(CandidateQuery.Node node, BitSet hits, int page, int size) {
+        int wanted = (int) Math.min((long) (page + 1) * size, hits.cardinality());
+        if (wanted <= (long) page * size) {
+            return List.of();
+        }
+
+        Set<CandidateQuery.Term> scoringTerms = new HashSet<>();
+        if (node != null) {
+            CandidateQuery.collectScoringTerms(node, scoringTerms);
+        }
+        Map<String, Float> idf = new HashMap<>();
+        int liveCount = live.cardinality();
+        for (CandidateQuery.Term term : scoringTerms) {
+            for (String indexed : expand(term)) {
+                idf.computeIfAbsent(indexed, t ->
+                        (float) Math.log(1 + (double) liveCount / postings.get(t).cardinality()));
+            }
+        }
+
+        Comparator<Hit> best = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::profileId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(wanted, best);
+        for (int ordinal = hits.nextSetBit(0); ordinal >= 0; ordinal = hits.nextSetBit(ordinal + 1)) {
+            Doc doc = docs.get(ordinal);
+            float score = 0;
+            for (Map.Entry<String, Float> term : idf.entrySet()) {
+                score += doc.weight(term.getKey()) * term.getValue();
+            }
+            Hit hit = new Hit(doc.profileId(), score);
+            if (top.size() < wanted) {
+                top.add(hit);
+            } else if (best.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(best.reversed());
+        return ranked.subList(page * size, ranked.size()).stream().map(Hit::profileId).toList();
+    }
+
+    private BitSet selectStatuses(Collection<JobSeekerProfile.ExperienceStatus> selected) {
+        if (selected == null || selected.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (JobSeekerProfile.ExperienceStatus status : selected) {
+            BitSet bits = statuses.get(status);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private BitSet selectYears(Integer minYear, Integer maxYear) {
+        if (minYear == null && maxYear == null) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        yearsOfPassing.subMap(minYear != null ? minYear : Integer.MIN_VALUE, true,
+                maxYear != null ? maxYear : Integer.MAX_VALUE, true).values().forEach(result::or);
+        return result;
+    }
+
+    private Map<String, Integer> statusCounts(BitSet within, BitSet scratch) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<JobSeekerProfile.ExperienceStatus, BitSet> status : statuses.entrySet()) {
+            int count = countIntersection(within, status.getValue(), scratch);
+            if (count > 0) {
+                counts.put(status.getKey().name(), count);
+            }
+        }
+        return counts;
+    }
+
+    // Null filters are "not selected" and do not narrow the result
+    private static BitSet intersect(BitSet matches, BitSet... filters) {
+        BitSet result = (BitSet) matches.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    // Reuses one scratch set per search instead of allocating a copy for every facet value
+    private static int countIntersection(BitSet a, BitSet b, BitSet scratch) {
+        scratch.clear();
+        scratch.or(a);
+        scratch.and(b);
+        return scratch.cardinality();
+    }
+
+    /** Facet filters; null or empty means not filtered */
+    public record Filters(Collection<String> skills, Collection<String> qualifications,
+                          Collection<JobSeekerProfile.ExperienceStatus> statuses,
+                          Integer minYearOfPassing, Integer maxYearOfPassing) {
+    }
+
+    /** Profile ids of the requested page in rank order, the total number of hits and the facet counts */
+    public record Result(List<Long> profileIds, int total, Map<String, Map<String, Integer>> facets) {
+    }
+
+    private record Doc(Long profileId, String[] terms, float[] weights, Set<String> skillKeys,
+                       Set<String> qualificationKeys, JobSeekerProfile.ExperienceStatus status,
+                       Set<Integer> yearsOfPassing) {
+
+        // Summed field weight of the term in this profile, 0 if it does not contain it
+        float weight(String term) {
+            int i = Arrays.binarySearch(terms, term);
+            return i >= 0 ? weights[i] : 0f;
+        }
+    }
+
+    private record Hit(long profileId, float score) {
+    }
+
+    /** Values of one facet: key normalised by SkillTokenizer -> ordinals, plus the label shown for each key */
+    private static final class Facet {
+
+        private final Map<String, BitSet> bits = new HashMap<>();
+        private final Map<String, String> labels = new HashMap<>();
+
+        void add(String key, String label, int ordinal) {
+            bits.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+            labels.putIfAbsent(key, label);
+        }
+
+        void remove(String key, int ordinal) {
+            clearBit(bits, key, ordinal);
+            if (!bits.containsKey(key)) {
+                labels.remove(key);
+            }
+        }
+
+        void clear() {
+            bits.clear();
+            labels.clear();
+        }
+
+        BitSet select(Collection<String> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            BitSet result = new BitSet();
+            for (String value : values) {
+                BitSet selected = bits.get(SkillTokenizer.normalize(value));
+                if (selected != null) {
+                    result.or(selected);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * The most frequent values within the given set, at most limit of them. A small set is tallied
+         * from the keys of its own documents; a large one by intersecting it with each value's bits,
+         * which costs a pass over the set per distinct value.
+         */
+        Map<String, Integer> counts(BitSet within, int limit, BitSet scratch, IntFunction<Set<String>> keysOf) {
+            Map<String, Integer> counts = new HashMap<>();
+            int size = within.cardinality();
+            if (size > 0 && size <= bits.size()) {
+                for (int ordinal = within.nextSetBit(0); ordinal >= 0; ordinal = within.nextSetBit(ordinal + 1)) {
+                    for (String key : keysOf.apply(ordinal)) {
+                        counts.merge(key, 1, Integer::sum);
+                    }
+                }
+            } else if (size > 0) {
+                for (Map.Entry<String, BitSet> value : bits.entrySet()) {
+                    int count = countIntersection(within, value.getValue(), scratch);
+                    if (count > 0) {
+                        counts.put(value.getKey(), count);
+                    }
+                }
+            }
+            Map<String, Integer> top = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .forEach(value -> top.put(labels.get(value.getKey()), value.getValue()));
+            return top;
+        }
+    }
+}
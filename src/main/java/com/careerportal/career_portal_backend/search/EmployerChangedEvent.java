@@ -0,0 +1,14 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.Employer;
+
+/**
+ * Published when an employer profile is saved, carrying the fields the suggest index needs. The
+ * index picks it up after the transaction commits, so it never suggests a change that was rolled back.
+ */
+public record EmployerChangedEvent(Long employerId, String companyName, String industry) {
+
+    public static EmployerChangedEvent saved(Employer employer) {
+        return new EmployerChangedEvent(employer.getId(), employer.getCompanyName(), employer.getIndustry());
+    }
+}
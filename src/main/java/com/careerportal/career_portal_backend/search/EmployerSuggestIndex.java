@@ -0,0 +1,151 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.payload.EmployerSuggestionDto;
+import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory typeahead over company names and industries. Built once at startup and kept in sync
+ * through EmployerChangedEvent after each commit, so suggestions are answered from a sorted prefix
+ * table instead of a LIKE scan of the employers table on every keystroke.
+ */
+@Component
+public class EmployerSuggestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployerSuggestIndex.class);
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}+#&]+");
+
+    private final EmployerRepository employerRepository;
+
+    private final PrefixTable<EmployerSuggestionDto.Company> companies = new PrefixTable<>();
+    private final PrefixTable<String> industries = new PrefixTable<>();
+    private final Map<Long, Indexed> indexedById = new ConcurrentHashMap<>();
+    // Spellings of each normalised industry with the number of employers using them. The industry is
+    // suggested while any remain, labelled with the most used spelling
+    private final Map<String, Map<String, Integer>> industryLabels = new HashMap<>();
+    private volatile boolean ready = false;
+
+    public EmployerSuggestIndex(EmployerRepository employerRepository) {
+        this.employerRepository = employerRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        logger.info("Building employer suggest index");
+        companies.clear();
+        industries.clear();
+        indexedById.clear();
+        industryLabels.clear();
+        for (EmployerRepository.SuggestFields employer : employerRepository.findAllSuggestFields()) {
+            index(employer.getId(), employer.getCompanyName(), employer.getIndustry());
+        }
+        ready = true;
+        logger.info("Employer suggest index built with {} companies and {} industries",
+                indexedById.size(), industryLabels.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Runs after commit (or straight away when published outside a transaction)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployerChanged(EmployerChangedEvent event) {
+        if (event.employerId() != null) {
+            index(event.employerId(), event.companyName(), event.industry());
+        }
+    }
+
+    /** Adds an employer to the index, replacing whatever was indexed for it before */
+    synchronized void index(Long employerId, String companyName, String industry) {
+        remove(employerId);
+
+        Indexed indexed = new Indexed(normalize(companyName), normalize(industry),
+                industry != null ? industry.trim() : null);
+        if (!indexed.companyName().isEmpty()) {
+            companies.add(employerId.toString(), indexed.companyName(),
+                    new EmployerSuggestionDto.Company(employerId, companyName.trim()));
+        }
+        if (!indexed.industry().isEmpty()) {
+            Map<String, Integer> labels = industryLabels.computeIfAbsent(indexed.industry(), key -> new HashMap<>());
+            labels.merge(indexed.industryLabel(), 1, Integer::sum);
+            industries.add(indexed.industry(), indexed.industry(), labelOf(labels));
+        }
+        indexedById.put(employerId, indexed);
+    }
+
+    public synchronized void remove(Long employerId) {
+        Indexed old = indexedById.remove(employerId);
+        if (old == null) {
+            return;
+        }
+        if (!old.companyName().isEmpty()) {
+            companies.remove(employerId.toString(), old.companyName());
+        }
+        if (!old.industry().isEmpty()) {
+            Map<String, Integer> labels = industryLabels.get(old.industry());
+            labels.computeIfPresent(old.industryLabel(), (label, count) -> count > 1 ? count - 1 : null);
+            if (labels.isEmpty()) {
+                industryLabels.remove(old.industry());
+                industries.remove(old.industry(), old.industry());
+            } else {
+                industries.add(old.industry(), old.industry(), labelOf(labels));
+            }
+        }
+    }
+
+    // Most used spelling, ties going to the alphabetically first so the label does not depend on update order
+    private static String labelOf(Map<String, Integer> labels) {
+        String best = null;
+        int bestCount = 0;
+        for (Map.Entry<String, Integer> label : labels.entrySet()) {
+            if (label.getValue() > bestCount || (label.getValue() == bestCount && label.getKey().compareTo(best) < 0)) {
+                best = label.getKey();
+                bestCount = label.getValue();
+            }
+        }
+        return best;
+    }
+
+    /** Companies and industries whose name, or a word in it, starts with the query, at most limit of each */
+    public EmployerSuggestionDto suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return new EmployerSuggestionDto(List.of(), List.of());
+        }
+        return new EmployerSuggestionDto(
+                new ArrayList<>(companies.match(prefix, limit).values()),
+                new ArrayList<>(industries.match(prefix, limit).values()));
+    }
+
+    // Lower-cased, accents stripped and punctuation collapsed to single spaces, so "Café-Co" matches "cafe co"
+    static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("");
+        return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private record Indexed(String companyName, String industry, String industryLabel) {
+    }
+}
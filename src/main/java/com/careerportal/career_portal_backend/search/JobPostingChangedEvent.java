@@ -0,0 +1,22 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+
+/**
+ * Published when a job posting is saved or deleted. The in-memory indexes pick it up after the
+ * transaction commits, so they never show a change that was rolled back.
+ */
+public record JobPostingChangedEvent(Long jobId, JobPosting job) {
+
+    public static JobPostingChangedEvent saved(JobPosting job) {
+        return new JobPostingChangedEvent(job.getId(), job);
+    }
+
+    public static JobPostingChangedEvent deleted(Long jobId) {
+        return new JobPostingChangedEvent(jobId, null);
+    }
+
+    public boolean isDeleted() {
+        return job == null;
+    }
+}
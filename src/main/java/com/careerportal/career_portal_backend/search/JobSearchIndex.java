@@ -0,0 +1,166 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index (term -> job posting ids) over job title, description and required skills.
+ * Built once at startup and kept in sync through JobPostingChangedEvent once each change commits, so
+ * keyword searches no longer need a LIKE '%kw%' scan of the job_postings table.
+ * <p>
+ * Matching is by whole terms rather than substrings: every term of the keyword must start one of the
+ * job's terms ("java dev" finds "Java Developer", "script" does not find "JavaScript"). Terms shorter
+ * than MIN_PREFIX_LENGTH only match whole terms, so "c" finds "C" but not every term starting with c.
+ * The LIKE fallback keeps the old substring behaviour while the index is not ready, and is also used
+ * when a keyword matches so many jobs that an id list would cost more than the scan.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    static final int MIN_PREFIX_LENGTH = 3;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final int maxMatchingIds;
+
+    // Sorted so that a query term can also match every indexed term it is a prefix of
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<String>> termsByJob = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public JobSearchIndex(JobPostingRepository jobPostingRepository,
+                          @Value("${app.jobs.search.max-matching-ids:1000}") int maxMatchingIds) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.maxMatchingIds = maxMatchingIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        logger.info("Building job search index");
+        postings.clear();
+        termsByJob.clear();
+        List<JobPosting> jobs = jobPostingRepository.findAll();
+        for (JobPosting job : jobs) {
+            index(job);
+        }
+        ready = true;
+        logger.info("Job search index built with {} jobs and {} terms", termsByJob.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Runs after commit (or straight away when published outside a transaction)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobPostingChanged(JobPostingChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.jobId());
+        } else {
+            index(event.job());
+        }
+    }
+
+    /** Adds a job posting to the index, replacing whatever was indexed for it before */
+    public synchronized void index(JobPosting job) {
+        if (job.getId() == null) {
+            return;
+        }
+        removeTerms(job.getId());
+
+        Set<String> terms = new HashSet<>();
+        terms.addAll(TextTokenizer.tokenize(job.getJobTitle()));
+        terms.addAll(TextTokenizer.tokenize(job.getDescription()));
+        terms.addAll(TextTokenizer.tokenize(job.getRequiredSkills()));
+
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(job.getId());
+        }
+        termsByJob.put(job.getId(), terms);
+    }
+
+    public synchronized void remove(Long jobId) {
+        removeTerms(jobId);
+    }
+
+    /**
+     * Returns the ids of jobs matching every term of the keyword (terms of MIN_PREFIX_LENGTH or more also
+     * match as a prefix). Empty Optional means the index cannot answer (not built yet, nothing searchable
+     * in the keyword, or more than maxMatchingIds matches, too many to pass back as an id filter) and the
+     * caller should fall back to the database search.
+     */
+    public Optional<Set<Long>> search(String keyword) {
+        Set<String> queryTerms = TextTokenizer.tokenize(keyword);
+        if (!ready || queryTerms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<Long>> matchesPerTerm = new ArrayList<>();
+        for (String term : queryTerms) {
+            Set<Long> matches = matchPrefix(term);
+            if (matches.isEmpty()) {
+                return Optional.of(Collections.emptySet());
+            }
+            matchesPerTerm.add(matches);
+        }
+
+        // Intersect starting from the rarest term to keep the working set small
+        matchesPerTerm.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(matchesPerTerm.get(0));
+        for (int i = 1; i < matchesPerTerm.size() && !result.isEmpty(); i++) {
+            result.retainAll(matchesPerTerm.get(i));
+        }
+        return result.size() > maxMatchingIds ? Optional.empty() : Optional.of(result);
+    }
+
+    private Set<Long> matchPrefix(String prefix) {
+        if (prefix.length() < MIN_PREFIX_LENGTH) {
+            return postings.getOrDefault(prefix, Set.of());
+        }
+        Collection<Set<Long>> lists = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values();
+        if (lists.size() == 1) {
+            return lists.iterator().next();
+        }
+        Set<Long> union = new HashSet<>();
+        for (Set<Long> ids : lists) {
+            union.addAll(ids);
+        }
+        return union;
+    }
+
+    private void removeTerms(Long jobId) {
+        Set<String> oldTerms = termsByJob.remove(jobId);
+        if (oldTerms == null) {
+            return;
+        }
+        for (String term : oldTerms) {
+            postings.computeIfPresent(term, (t, ids) -> {
+                ids.remove(jobId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+}
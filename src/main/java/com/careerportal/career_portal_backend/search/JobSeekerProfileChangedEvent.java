@@ -0,0 +1,17 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import org.hibernate.Hibernate;
+
+/**
+ * Published when a job seeker profile is saved. The in-memory indexes pick it up after the
+ * transaction commits, so they never show a change that was rolled back.
+ */
+public record JobSeekerProfileChangedEvent(Long profileId, JobSeekerProfile profile) {
+
+    public static JobSeekerProfileChangedEvent saved(JobSeekerProfile profile) {
+        // Loaded now: the listeners run after commit, when the session may already be gone
+        Hibernate.initialize(profile.getEducationDetails());
+        return new JobSeekerProfileChangedEvent(profile.getId(), profile);
+    }
+}
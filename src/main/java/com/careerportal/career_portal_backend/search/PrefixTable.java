@@ -0,0 +1,66 @@
+package com.careerportal.career_portal_backend.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted prefix lookup over normalised phrases. Every entry is stored under its whole phrase and under
+ * the rest of the phrase from each later word, so "soft" finds "Acme Software". A lookup is a range
+ * scan that stops after the requested number of entries, with whole-phrase matches ranked first.
+ * Callers serialise writes; reads may run concurrently with them.
+ */
+final class PrefixTable<V> {
+
+    // Sorts before every other character, so shorter phrases come first and keys stay unique per entry
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, Entry<V>> leading = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Entry<V>> inner = new ConcurrentSkipListMap<>();
+
+    void add(String entryKey, String phrase, V value) {
+        Entry<V> entry = new Entry<>(entryKey, value);
+        leading.put(phrase + KEY_SEPARATOR + entryKey, entry);
+        for (int i = phrase.indexOf(' '); i >= 0; i = phrase.indexOf(' ', i + 1)) {
+            inner.put(phrase.substring(i + 1) + KEY_SEPARATOR + entryKey, entry);
+        }
+    }
+
+    void remove(String entryKey, String phrase) {
+        leading.remove(phrase + KEY_SEPARATOR + entryKey);
+        for (int i = phrase.indexOf(' '); i >= 0; i = phrase.indexOf(' ', i + 1)) {
+            inner.remove(phrase.substring(i + 1) + KEY_SEPARATOR + entryKey);
+        }
+    }
+
+    void clear() {
+        leading.clear();
+        inner.clear();
+    }
+
+    /** Up to limit values whose phrase, or a word within it, starts with the normalised prefix */
+    Map<String, V> match(String prefix, int limit) {
+        Map<String, V> matches = new LinkedHashMap<>();
+        collect(leading, prefix, limit, matches);
+        collect(inner, prefix, limit, matches);
+        return matches;
+    }
+
+    private static <V> void collect(ConcurrentSkipListMap<String, Entry<V>> keys, String prefix, int limit,
+                                    Map<String, V> matches) {
+        if (matches.size() >= limit) {
+            return;
+        }
+        NavigableMap<String, Entry<V>> range = keys.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        for (Entry<V> entry : range.values()) {
+            matches.putIfAbsent(entry.key(), entry.value());
+            if (matches.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private record Entry<V>(String key, V value) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.careerportal.career_portal_backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns normalised skill names to small ints, so skill lists can be kept as sorted int arrays and
+ * compared without touching strings. Ids are reference counted by the vectors holding them: a skill
+ * nobody lists any more is dropped and its id reused, so the dictionary stays as large as the skills
+ * in use rather than every spelling ever saved. Not thread-safe; SkillMatchIndex guards it.
+ */
+final class SkillDictionary {
+
+    // Skills kept per vector, in the order listed. Bounds the work per entity and keeps the overlap
+    // counts in SkillVectorIndex within a short
+    static final int MAX_SKILLS = 256;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> labels = new ArrayList<>();
+    private int[] references = new int[256];
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    /**
+     * Sorted, duplicate-free ids of the skills in a free-text list, interning new ones. Each id is retained
+     * once for the returned vector; hand the vector to {@link #release} when it is replaced.
+     */
+    int[] acquire(String skills) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (String name : SkillTokenizer.split(skills)) {
+            if (names.size() == MAX_SKILLS) {
+                break;
+            }
+            names.putIfAbsent(SkillTokenizer.normalize(name), name);
+        }
+        int[] vector = new int[names.size()];
+        int size = 0;
+        for (Map.Entry<String, String> name : names.entrySet()) {
+            int id = ids.computeIfAbsent(name.getKey(), key -> intern(key, name.getValue()));
+            references[id]++;
+            vector[size++] = id;
+        }
+        Arrays.sort(vector);
+        return vector;
+    }
+
+    /** Drops the vector's hold on its ids, forgetting skills no other vector lists */
+    void release(int[] vector) {
+        for (int id : vector) {
+            if (--references[id] == 0) {
+                ids.remove(keys.get(id));
+                keys.set(id, null);
+                labels.set(id, null);
+                freeIds.push(id);
+            }
+        }
+    }
+
+    /** The skill as first written, e.g. "Spring Boot" for every spelling that normalises to "spring boot" */
+    String label(int id) {
+        return labels.get(id);
+    }
+
+    /** Number of distinct skills currently in use */
+    int size() {
+        return ids.size();
+    }
+
+    private int intern(String key, String label) {
+        Integer free = freeIds.poll();
+        if (free != null) {
+            keys.set(free, key);
+            labels.set(free, label);
+            return free;
+        }
+        keys.add(key);
+        labels.add(label);
+        int id = labels.size() - 1;
+        if (id == references.length) {
+            references = Arrays.copyOf(references, references.length * 2);
+        }
+        return id;
+    }
+}
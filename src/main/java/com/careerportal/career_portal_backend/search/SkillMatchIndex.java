@@ -0,0 +1,175 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Matches job postings to job seekers by skill overlap. Required skills and profile skills are interned
+ * into one SkillDictionary and kept as sorted int arrays, with posting lists per skill on both sides, so
+ * a top-K query only scores the entities that share a skill. Scores are computed at query time from the
+ * current vectors: a changed posting or profile only replaces its own vector and posting entries.
+ * Built once at startup and kept in sync through JobPostingChangedEvent and JobSeekerProfileChangedEvent
+ * after each commit.
+ */
+@Component
+public class SkillMatchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillMatchIndex.class);
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobSeekerProfileRepository profileRepository;
+
+    // The dictionary and vector indexes are plain collections: queries share the read lock, updates take the
+    // write lock. Writers are also synchronized on the index, so an update waits for a rebuild's load to finish
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SkillDictionary dictionary = new SkillDictionary();
+    private final SkillVectorIndex profiles = new SkillVectorIndex();
+    private final SkillVectorIndex jobs = new SkillVectorIndex();
+    private volatile boolean ready = false;
+
+    public SkillMatchIndex(JobPostingRepository jobPostingRepository, JobSeekerProfileRepository profileRepository) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.profileRepository = profileRepository;
+    }
+
+    // Updates committed while the skills load wait on the monitor and are applied on top of the loaded vectors
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        logger.info("Building skill match index");
+        List<JobPostingRepository.JobSkills> jobSkills = jobPostingRepository.findActiveJobSkills();
+        List<JobSeekerProfileRepository.ProfileSkills> profileSkills = profileRepository.findAllProfileSkills();
+        lock.writeLock().lock();
+        try {
+            for (JobPostingRepository.JobSkills job : jobSkills) {
+                put(jobs, job.getId(), job.getRequiredSkills());
+            }
+            for (JobSeekerProfileRepository.ProfileSkills profile : profileSkills) {
+                put(profiles, profile.getId(), profile.getSkills());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        logger.info("Skill match index built with {} jobs, {} profiles and {} distinct skills",
+                jobSkills.size(), profileSkills.size(), dictionary.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Both run after commit (or straight away when published outside a transaction)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobPostingChanged(JobPostingChangedEvent event) {
+        if (event.isDeleted()) {
+            removeJob(event.jobId());
+        } else {
+            index(event.job());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(JobSeekerProfileChangedEvent event) {
+        index(event.profile());
+    }
+
+    public void index(JobPosting job) {
+        if (job.getId() == null) {
+            return;
+        }
+        // Inactive postings are not offered to job seekers
+        boolean active = !Boolean.FALSE.equals(job.getIsActive());
+        putJob(job.getId(), active ? job.getRequiredSkills() : null);
+    }
+
+    public void index(JobSeekerProfile profile) {
+        if (profile.getId() != null) {
+            putProfile(profile.getId(), profile.getSkills());
+        }
+    }
+
+    public void removeJob(Long jobId) {
+        putJob(jobId, null);
+    }
+
+    synchronized void putJob(long jobId, String requiredSkills) {
+        lock.writeLock().lock();
+        try {
+            put(jobs, jobId, requiredSkills);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    synchronized void putProfile(long profileId, String skills) {
+        lock.writeLock().lock();
+        try {
+            put(profiles, profileId, skills);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The new skills are acquired before the old are released, so skills kept across the update keep their ids
+    private void put(SkillVectorIndex side, long id, String skills) {
+        dictionary.release(side.put(id, dictionary.acquire(skills)));
+    }
+
+    /** The k profiles whose skills overlap most with the job's required skills, best first */
+    public List<Match> topCandidatesForJob(long jobId, int k) {
+        lock.readLock().lock();
+        try {
+            int[] required = jobs.vector(jobId);
+            return describe(profiles.top(required, k), required, profiles);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The k active job postings whose required skills overlap most with the profile's skills, best first */
+    public List<Match> topJobsForProfile(long profileId, int k) {
+        lock.readLock().lock();
+        try {
+            int[] skills = profiles.vector(profileId);
+            return describe(jobs.top(skills, k), skills, jobs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Resolves the shared skill names for the handful of matches returned
+    private List<Match> describe(List<SkillVectorIndex.Match> matches, int[] query, SkillVectorIndex side) {
+        List<Match> described = new ArrayList<>(matches.size());
+        for (SkillVectorIndex.Match match : matches) {
+            List<String> shared = new ArrayList<>();
+            for (int skill : side.vector(match.id())) {
+                if (Arrays.binarySearch(query, skill) >= 0) {
+                    shared.add(dictionary.label(skill));
+                }
+            }
+            described.add(new Match(match.id(), match.score(), shared));
+        }
+        return described;
+    }
+
+    /** A matched job or profile id, its Jaccard score in [0, 1] and the skills it shares with the query */
+    public record Match(Long id, double score, List<String> matchedSkills) {
+    }
+}
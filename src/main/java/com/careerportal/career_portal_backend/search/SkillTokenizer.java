@@ -0,0 +1,42 @@
+package com.careerportal.career_portal_backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits free-text skill lists such as "Java, Spring Boot; SQL" into names and normalises them, so the
+ * candidate facets and the skill matcher agree on when two spellings are the same skill.
+ */
+final class SkillTokenizer {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|/\\n]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SkillTokenizer() {
+    }
+
+    /** The names in the list, trimmed and in the order written; blank entries are dropped */
+    static List<String> split(String skills) {
+        List<String> names = new ArrayList<>();
+        if (skills == null || skills.isBlank()) {
+            return names;
+        }
+        for (String name : SEPARATORS.split(skills)) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                names.add(trimmed);
+            }
+        }
+        return names;
+    }
+
+    // Lower-cased with whitespace collapsed, so "Spring  Boot" and "spring boot" are one value; "" when blank
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+}
@@ -0,0 +1,179 @@
+package com.careerportal.career_portal_backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Skill vectors of one kind of entity (profiles or job postings): each entity is a sorted int array of
+ * skill ids, and each skill id has a sorted posting list of the entity ordinals that have it. A top-K
+ * query only visits entities sharing at least one skill with the query vector. Not thread-safe;
+ * SkillMatchIndex guards it.
+ */
+final class SkillVectorIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] ids = new long[1024];
+    private int[][] vectors = new int[1024][];
+    // Vector lengths again, next to each other, so scoring does not dereference every matched vector
+    private int[] lengths = new int[1024];
+    private int count = 0;
+    // postings[skillId] holds postingSizes[skillId] ordinals in ascending order
+    private int[][] postings = new int[256][];
+    private int[] postingSizes = new int[256];
+    // Zeroed overlap counters handed between queries; one per concurrent query at most. An overlap is at
+    // most the query's length, which SkillDictionary caps at MAX_SKILLS, so a short per entity is enough
+    // and halves the memory walked per query.
+    private final ConcurrentLinkedQueue<short[]> scratch = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Replaces the entity's vector, touching only the posting lists of skills that were added or dropped.
+     * Returns the vector it replaced, empty for a new entity.
+     */
+    int[] put(long id, int[] vector) {
+        Integer existing = ordinals.get(id);
+        int ordinal;
+        int[] old;
+        if (existing != null) {
+            ordinal = existing;
+            old = vectors[ordinal];
+        } else {
+            ordinal = count++;
+            if (ordinal == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                vectors = Arrays.copyOf(vectors, vectors.length * 2);
+                lengths = Arrays.copyOf(lengths, lengths.length * 2);
+            }
+            ids[ordinal] = id;
+            ordinals.put(id, ordinal);
+            old = EMPTY;
+        }
+        for (int skill : old) {
+            if (Arrays.binarySearch(vector, skill) < 0) {
+                removePosting(skill, ordinal);
+            }
+        }
+        for (int skill : vector) {
+            if (Arrays.binarySearch(old, skill) < 0) {
+                addPosting(skill, ordinal);
+            }
+        }
+        vectors[ordinal] = vector;
+        lengths[ordinal] = vector.length;
+        return old;
+    }
+
+    int[] vector(long id) {
+        Integer ordinal = ordinals.get(id);
+        return ordinal == null ? EMPTY : vectors[ordinal];
+    }
+
+    int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * The k entities with the highest Jaccard similarity |A ∩ B| / |A ∪ B| to the query vector, best first.
+     * Overlaps are counted by walking the posting lists of the query's skills, then one sequential pass over
+     * the counters scores the entities that share a skill (and zeroes the counters for the next query) while
+     * a min-heap of size k keeps the best. Ties go to the newest entity (highest id); the pass runs from the
+     * highest ordinal down, so with ordinals mostly following ids a tie rarely displaces a heap entry.
+     */
+    List<Match> top(int[] query, int k) {
+        if (query.length == 0 || k <= 0 || count == 0) {
+            return List.of();
+        }
+        short[] overlaps = scratch.poll();
+        if (overlaps == null || overlaps.length < count) {
+            overlaps = new short[ids.length];
+        }
+        int highest = -1;
+        for (int skill : query) {
+            if (skill >= postings.length || postings[skill] == null) {
+                continue;
+            }
+            int[] posting = postings[skill];
+            int n = postingSizes[skill];
+            for (int i = 0; i < n; i++) {
+                overlaps[posting[i]]++;
+            }
+            if (n > 0) {
+                highest = Math.max(highest, posting[n - 1]);
+            }
+        }
+
+        Comparator<Match> best = Comparator.comparingDouble(Match::score).thenComparingLong(Match::id);
+        PriorityQueue<Match> heap = new PriorityQueue<>(k, best);
+        double worst = -1;
+        long worstId = Long.MIN_VALUE;
+        for (int ordinal = highest; ordinal >= 0; ordinal--) {
+            int overlap = overlaps[ordinal];
+            if (overlap == 0) {
+                continue;
+            }
+            overlaps[ordinal] = 0;
+            double score = (double) overlap / (query.length + lengths[ordinal] - overlap);
+            // Cheap reject before allocating a Match for an entity that cannot enter a full heap
+            if (score < worst || (score == worst && ids[ordinal] <= worstId)) {
+                continue;
+            }
+            Match match = new Match(ids[ordinal], score);
+            if (heap.size() < k) {
+                heap.add(match);
+            } else if (best.compare(match, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(match);
+            }
+            if (heap.size() == k) {
+                worst = heap.peek().score();
+                worstId = heap.peek().id();
+            }
+        }
+        scratch.offer(overlaps);
+
+        List<Match> matches = new ArrayList<>(heap);
+        matches.sort(best.reversed());
+        return matches;
+    }
+
+    private void addPosting(int skill, int ordinal) {
+        if (skill >= postings.length) {
+            int length = Math.max(skill + 1, postings.length * 2);
+            postings = Arrays.copyOf(postings, length);
+            postingSizes = Arrays.copyOf(postingSizes, length);
+        }
+        int[] posting = postings[skill];
+        int size = postingSizes[skill];
+        if (posting == null) {
+            posting = new int[4];
+        } else if (size == posting.length) {
+            posting = Arrays.copyOf(posting, size * 2);
+        }
+        // New entities get the highest ordinal, so this is usually an append
+        int position = size == 0 || posting[size - 1] < ordinal ? size : -Arrays.binarySearch(posting, 0, size, ordinal) - 1;
+        System.arraycopy(posting, position, posting, position + 1, size - position);
+        posting[position] = ordinal;
+        postings[skill] = posting;
+        postingSizes[skill] = size + 1;
+    }
+
+    private void removePosting(int skill, int ordinal) {
+        int[] posting = postings[skill];
+        int size = postingSizes[skill];
+        int position = Arrays.binarySearch(posting, 0, size, ordinal);
+        if (position >= 0) {
+            System.arraycopy(posting, position + 1, posting, position, size - position - 1);
+            postingSizes[skill] = size - 1;
+        }
+    }
+
+    record Match(long id, double score) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.careerportal.career_portal_backend.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Principal stored in the SecurityContext for the duration of a request.
+ * Besides the username and authorities it carries the ids the services need
+ * (user, employer profile, job seeker profile), resolved once when the request is authenticated.
+ */
+public class AuthenticatedUser extends User {
+
+    private final Long userId;
+    private final Long employerId; // null unless the user has an employer profile
+    private final Long jobSeekerProfileId; // null unless the user has a job seeker profile
+
+    public AuthenticatedUser(Long userId, String username, String password,
+                             Collection<? extends GrantedAuthority> authorities,
+                             Long employerId, Long jobSeekerProfileId) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.employerId = employerId;
+        this.jobSeekerProfileId = jobSeekerProfileId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getEmployerId() {
+        return employerId;
+    }
+
+    public Long getJobSeekerProfileId() {
+        return jobSeekerProfileId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.careerportal.career_portal_backend.security;
+
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.execption.ResourceNotFoundException;
+import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.repository.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Gives services the ids of the current principal without going back to the database.
+ * The ids come from the AuthenticatedUser put in the SecurityContext by JwtAuthenticationFilter;
+ * when the username is not the authenticated principal (e.g. calls outside a request) it falls
+ * back to the user/profile lookups the services used to do themselves.
+ */
+@Component
+public class CurrentUserContext {
+
+    private final UserRepository userRepository;
+    private final EmployerRepository employerRepository;
+    private final JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    public CurrentUserContext(UserRepository userRepository,
+                              EmployerRepository employerRepository,
+                              JobSeekerProfileRepository jobSeekerProfileRepository) {
+        this.userRepository = userRepository;
+        this.employerRepository = employerRepository;
+        this.jobSeekerProfileRepository = jobSeekerProfileRepository;
+    }
+
+    public Optional<Long> findEmployerId(String username) {
+        Optional<AuthenticatedUser> principal = principalFor(username);
+        if (principal.isPresent() && principal.get().getEmployerId() != null) {
+            return Optional.of(principal.get().getEmployerId());
+        }
+        return employerRepository.findIdByUserId(requireUserId(username));
+    }
+
+    public Long requireEmployerId(String username) {
+        return findEmployerId(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Employer Profile", "username", username));
+    }
+
+    public Optional<Long> findJobSeekerProfileId(String username) {
+        Optional<AuthenticatedUser> principal = principalFor(username);
+        if (principal.isPresent() && principal.get().getJobSeekerProfileId() != null) {
+            return Optional.of(principal.get().getJobSeekerProfileId());
+        }
+        return jobSeekerProfileRepository.findIdByUserId(requireUserId(username));
+    }
+
+    public Long requireJobSeekerProfileId(String username) {
+        return findJobSeekerProfileId(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Job Seeker Profile", "username", username));
+    }
+
+    public Long requireUserId(String username) {
+        return principalFor(username)
+                .map(AuthenticatedUser::getUserId)
+                .orElseGet(() -> userRepository.findByUsername(username)
+                        .map(User::getId)
+                        .orElseThrow(() -> new ResourceNotFoundException("User", "username", username)));
+    }
+
+    private Optional<AuthenticatedUser> principalFor(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal
+                && principal.getUsername().equals(username)) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.careerportal.career_portal_backend.security;
 
 import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
 import com.careerportal.career_portal_backend.repository.UserRepository;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -16,9 +18,15 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final EmployerRepository employerRepository;
+    private final JobSeekerProfileRepository jobSeekerProfileRepository;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    EmployerRepository employerRepository,
+                                    JobSeekerProfileRepository jobSeekerProfileRepository) {
         this.userRepository = userRepository;
+        this.employerRepository = employerRepository;
+        this.jobSeekerProfileRepository = jobSeekerProfileRepository;
     }
 
     @Override
@@ -33,12 +41,25 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map((role) -> new SimpleGrantedAuthority(role.getName()))
                 .collect(Collectors.toSet());
 
-        // Return Spring Security's User object (implements UserDetails)
+        // Resolve the profile id for the user's role once, so services don't have to look it up again
+        Long employerId = hasAuthority(authorities, "ROLE_EMPLOYER")
+                ? employerRepository.findIdByUserId(user.getId()).orElse(null) : null;
+        Long jobSeekerProfileId = hasAuthority(authorities, "ROLE_JOB_SEEKER")
+                ? jobSeekerProfileRepository.findIdByUserId(user.getId()).orElse(null) : null;
+
+        // Return our UserDetails implementation (a Spring Security User carrying the resolved ids)
         // Note: We use the actual username for the principal, not the email
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUser(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(), // The HASHED password
-                authorities
+                authorities,
+                employerId,
+                jobSeekerProfileId
         );
     }
+
+    private static boolean hasAuthority(Set<GrantedAuthority> authorities, String authority) {
+        return authorities.stream().anyMatch(granted -> authority.equals(granted.getAuthority()));
+    }
 }
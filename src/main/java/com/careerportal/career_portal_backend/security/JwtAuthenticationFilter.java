@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,10 +20,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService) {
+    // When true, the principal is built from the verified token claims instead of loading the user
+    @Value("${app.jwt.stateless-authentication:true}")
+    private boolean statelessAuthentication;
+
+    @Value("${app.jwt.revocation-check-enabled:true}")
+    private boolean revocationCheckEnabled;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   CustomUserDetailsService userDetailsService,
+                                   TokenRevocationService tokenRevocationService) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -33,14 +45,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Get JWT from the HTTP request
         String token = getTokenFromRequest(request);
 
-        // 2. Validate the token
-        if(StringUtils.hasText(token) && tokenProvider.validateToken(token)){
-
-            // 3. Get username from token
-            String username = tokenProvider.getUsername(token);
-
-            // 4. Load user associated with the token
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        // 2. Validate the token (one parse, or none when it was verified before)
+        VerifiedToken verified = StringUtils.hasText(token) ? tokenProvider.parseVerifiedToken(token) : null;
+        if(verified != null){
+
+            // 3. Reject revoked tokens, checked on every request even for cached tokens
+            if (revocationCheckEnabled && tokenRevocationService.isRevoked(verified.tokenId())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            // 4. Build the user from the claims, or load it for tokens issued without the id claims
+            UserDetails userDetails = statelessAuthentication ? verified.user() : null;
+            if (userDetails == null) {
+                userDetails = userDetailsService.loadUserByUsername(verified.subject());
+            }
 
             // 5. Create an Authentication object
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -3,27 +3,55 @@ package com.careerportal.career_portal_backend.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
+
     @Value("${app.jwt-secret}")
     private String jwtSecret;
 
     @Value("${app.jwt-expiration-milliseconds}")
     private long jwtExpirationDate;
 
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_EMPLOYER_ID = "employerId";
+    public static final String CLAIM_JOB_SEEKER_PROFILE_ID = "jobSeekerProfileId";
+
+    // Signing key and parser are immutable and thread-safe, so they are built once instead of per call
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenProvider(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @PostConstruct
+    void init(){
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     // Helper method to get the signing key
     private Key key(){
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        return signingKey;
     }
 
     // Generate JWT token from user authentication
@@ -37,62 +65,101 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        String token = Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti, used for revocation
                 .setSubject(username)
                 .claim("roles", roles)
                 .claim("authorities", authentication.getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority)
                         .collect(Collectors.toList()))
                 .setIssuedAt(new Date())
-                .setExpiration(expireDate)
-                .signWith(key())
-                .compact();
-        return token;
-    }
+                .setExpiration(expireDate);
 
-    // Get username from JWT token
-    public String getUsername(String token){
-        String cleanToken = token != null ? token.trim() : null;
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(cleanToken)
-                .getBody();
-        return claims.getSubject();
+        // Ids resolved at login, so requests can be authenticated from the token alone
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            builder.claim(CLAIM_USER_ID, principal.getUserId());
+            if (principal.getEmployerId() != null) {
+                builder.claim(CLAIM_EMPLOYER_ID, principal.getEmployerId());
+            }
+            if (principal.getJobSeekerProfileId() != null) {
+                builder.claim(CLAIM_JOB_SEEKER_PROFILE_ID, principal.getJobSeekerProfileId());
+            }
+        }
+
+        return builder.signWith(key()).compact();
     }
 
-    // Get roles from JWT token
-    public String getRoles(String token){
+    // Get all claims from a JWT token (the token must already be validated)
+    public Claims getClaims(String token){
         String cleanToken = token != null ? token.trim() : null;
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(cleanToken)
-                .getBody();
-        return claims.get("roles", String.class);
+        return jwtParser.parseClaimsJws(cleanToken).getBody();
     }
 
-    // Validate JWT token
-    public boolean validateToken(String token){
+    // Verify the token in a single parse; null if the token is not valid.
+    // Tokens verified before are answered from the cache without re-checking the signature.
+    public VerifiedToken parseVerifiedToken(String token){
         try{
             // Clean the token of any extra whitespace
             String cleanToken = token != null ? token.trim() : null;
             if (cleanToken == null || cleanToken.isEmpty()) {
-                return false;
+                return null;
+            }
+            VerifiedToken cached = verifiedTokenCache.get(cleanToken);
+            if (cached != null) {
+                return cached;
+            }
+            Claims claims = jwtParser.parseClaimsJws(cleanToken).getBody();
+            Date expiration = claims.getExpiration();
+            VerifiedToken verified = new VerifiedToken(claims.getId(), claims.getSubject(),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE, toAuthenticatedUser(claims));
+            if (expiration != null) {
+                verifiedTokenCache.put(cleanToken, verified);
             }
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(cleanToken);
-            return true;
+            return verified;
         } catch (MalformedJwtException ex){
-            System.err.println("Invalid JWT token: " + ex.getMessage());
+            logger.warn("Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex){
-            System.err.println("JWT token is expired: " + ex.getMessage());
+            logger.warn("JWT token is expired: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex){
-            System.err.println("JWT token is unsupported: " + ex.getMessage());
+            logger.warn("JWT token is unsupported: {}", ex.getMessage());
         } catch (IllegalArgumentException ex){
-            System.err.println("JWT claims string is empty: " + ex.getMessage());
+            logger.warn("JWT claims string is empty: {}", ex.getMessage());
         } catch (Exception ex){
-            System.err.println("JWT token validation error: " + ex.getMessage());
+            logger.warn("JWT token validation error: {}", ex.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    // Build the principal purely from verified claims; null if the token predates the id claims
+    public AuthenticatedUser toAuthenticatedUser(Claims claims){
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        if (userId == null) {
+            return null;
+        }
+        List<?> authorities = claims.get("authorities", List.class);
+        List<SimpleGrantedAuthority> grantedAuthorities = authorities == null ? List.of()
+                : authorities.stream().map(a -> new SimpleGrantedAuthority(String.valueOf(a))).collect(Collectors.toList());
+        return new AuthenticatedUser(
+                userId,
+                claims.getSubject(),
+                "", // no password: the principal was authenticated by the token signature
+                grantedAuthorities,
+                claims.get(CLAIM_EMPLOYER_ID, Long.class),
+                claims.get(CLAIM_JOB_SEEKER_PROFILE_ID, Long.class));
+    }
+
+    // Get username from JWT token
+    public String getUsername(String token){
+        return getClaims(token).getSubject();
+    }
+
+    // Get roles from JWT token
+    public String getRoles(String token){
+        return getClaims(token).get("roles", String.class);
+    }
+
+    // Validate JWT token
+    public boolean validateToken(String token){
+        return parseVerifiedToken(token) != null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.careerportal.career_portal_backend.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deny-list of revoked tokens (by their jti claim), kept only until the token would have expired anyway.
+ * Lets logout invalidate a token without going back to the users table on every request.
+ * The list is held in memory, so it is per application instance.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+
+    public void revoke(String tokenId, Date expiresAt) {
+        if (tokenId == null) {
+            return;
+        }
+        long until = expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE;
+        revokedUntil.put(tokenId, until);
+        logger.info("Revoked token {}", tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedUntil.containsKey(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedUntil.values().removeIf(until -> until < now);
+    }
+}
@@ -0,0 +1,14 @@
+package com.careerportal.career_portal_backend.security;
+
+/**
+ * What the application needs from a token whose signature has been verified. Unlike jjwt's Claims
+ * it is immutable, so one instance can be cached and shared by concurrent requests.
+ *
+ * @param user principal built from the token's id claims; null for tokens issued without them
+ */
+public record VerifiedToken(String tokenId, String subject, long expiresAt, AuthenticatedUser user) {
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
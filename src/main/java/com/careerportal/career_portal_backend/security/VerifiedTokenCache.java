@@ -0,0 +1,115 @@
+package com.careerportal.career_portal_backend.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded LRU cache of tokens whose signature has already been verified, keyed by a SHA-256 digest
+ * of the token (the raw token is never stored). Entries are dropped once the token's exp passes,
+ * so a cached token can never outlive its own validity. A max size of 0 disables the cache.
+ * Revocation is not cached: callers still check the token id against the deny-list on every request.
+ * The hit ratio is logged periodically so an undersized cache shows up in the logs.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long reportedHits;
+    private long reportedMisses;
+
+    public VerifiedTokenCache(@Value("${app.jwt.verified-token-cache-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        // Access order, so the least recently used token is the one dropped when the cache is full
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** Returns a previously verified, still unexpired token, or null */
+    public VerifiedToken get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            VerifiedToken verified = entries.get(key);
+            if (verified != null && !verified.isExpired(System.currentTimeMillis())) {
+                hits.incrementAndGet();
+                return verified;
+            }
+            if (verified != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (maxSize <= 0 || verified.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, verified);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    // Reports only the lookups since the previous run, and stays quiet when there were none
+    @Scheduled(fixedDelayString = "${app.jwt.verified-token-cache-stats-interval-ms:600000}")
+    public synchronized void logStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long newHits = hitCount - reportedHits;
+        long newMisses = missCount - reportedMisses;
+        reportedHits = hitCount;
+        reportedMisses = missCount;
+        if (newHits + newMisses == 0) {
+            return;
+        }
+        logger.info("Verified token cache: {} hits, {} misses ({}% hit ratio), {}/{} entries",
+                newHits, newMisses, newHits * 100 / (newHits + newMisses), size(), maxSize);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
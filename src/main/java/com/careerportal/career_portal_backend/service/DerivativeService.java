@@ -0,0 +1,15 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+
+import java.util.Optional;
+
+public interface DerivativeService {
+
+    /** Generated thumbnail or preview of a stored file, if it is ready */
+    Optional<DBFile> findDerivedFile(String sourceFileId, DerivativeJob.Kind kind);
+
+    /** Runs a job the caller has already claimed; false if it was deleted or re-queued before it finished */
+    boolean process(Long jobId);
+}
@@ -3,12 +3,14 @@ package com.careerportal.career_portal_backend.service;
 import com.careerportal.career_portal_backend.entity.Employer;
 import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.payload.EmployerRegisterDto;
-import java.util.List;
+import com.careerportal.career_portal_backend.payload.EmployerSuggestionDto;
+import org.springframework.data.domain.Page;
 
 public interface EmployerService {
     Employer createEmployerProfile(User user, EmployerRegisterDto registerDto);
     Employer createDefaultEmployerProfile(User user);
     Employer getOrCreateEmployerProfile(User user);
     Employer updateEmployerProfile(User user, com.careerportal.career_portal_backend.payload.EmployerDto employerDto);
-    List<Employer> getAllEmployers(String companyName, String industry, Integer foundedAfter);
+    Page<Employer> getAllEmployers(String companyName, String industry, Integer foundedAfter, Integer page, Integer size);
+    EmployerSuggestionDto suggestEmployers(String query, Integer limit);
 }
\ No newline at end of file
@@ -1,13 +1,29 @@
 package com.careerportal.career_portal_backend.service;
 
 import com.careerportal.career_portal_backend.entity.DBFile;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+
 public interface FileStorageService {
 
     String storeFile(MultipartFile file);
 
+    /** Store a file generated by the application (e.g. a thumbnail); no derivatives are queued for it */
+    String storeDerivedFile(String fileName, String fileType, byte[] content);
+
+    /** Metadata of a stored file; the content is read through {@link #loadFileAsResource(DBFile)} */
     DBFile getFile(String fileId);
 
+    /** The original content, decompressed on the fly if it is stored compressed */
+    Resource loadFileAsResource(DBFile file);
+
+    /** The content as stored, i.e. still encoded with {@link DBFile#getContentEncoding()} */
+    Resource loadStoredResource(DBFile file);
+
     void deleteFile(String fileId);
-}
\ No newline at end of file
+
+    /** Deletes the rows of all the given files with one statement, e.g. for garbage collection */
+    void deleteFiles(Collection<String> fileIds);
+}
@@ -1,14 +1,20 @@
 package com.careerportal.career_portal_backend.service;
 
 import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.careerportal.career_portal_backend.payload.JobPostingPageDto;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface JobPostingService {
     JobPostingDto createJobPosting(String username, JobPostingDto jobPostingDto);
     List<JobPostingDto> getAllJobPostings();
-    List<JobPostingDto> searchJobPostings(String keyword, String location, String experienceLevel);
+    void streamAllJobPostings(Consumer<JobPostingDto> consumer);
+    JobPostingPageDto searchJobPostings(String keyword, String location, String experienceLevel,
+                                        String sort, String cursor, Integer size);
     List<JobPostingDto> getJobPostingsByEmployer(String username);
     JobPostingDto getJobById(Long jobId);
+    List<JobPostingDto> getJobPostingsByIds(Collection<Long> jobIds);
     JobPostingDto updateJobPosting(Long jobId, String username, JobPostingDto jobPostingDto);
     void deleteJobPosting(Long jobId, String username);
 }
\ No newline at end of file
@@ -1,8 +1,16 @@
 package com.careerportal.career_portal_backend.service;
 
-import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.CandidateSearchResultDto;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface JobSeekerService {
-    List<JobSeekerProfile> getAllJobSeekers();
-}
\ No newline at end of file
+    Page<JobSeekerDto> getJobSeekers(String status, String gender, String skill,
+                                     LocalDate createdFrom, LocalDate createdTo, Integer page, Integer size);
+    CandidateSearchResultDto searchCandidates(String query, List<String> skills, List<String> qualifications,
+                                              List<String> statuses, Integer minYearOfPassing,
+                                              Integer maxYearOfPassing, Integer page, Integer size);
+}
@@ -0,0 +1,11 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.payload.CandidateMatchDto;
+import com.careerportal.career_portal_backend.payload.JobMatchDto;
+
+import java.util.List;
+
+public interface MatchingService {
+    List<CandidateMatchDto> matchCandidatesForJob(Long jobId, String username, Integer limit);
+    List<JobMatchDto> matchJobsForJobSeeker(String username, Integer limit);
+}
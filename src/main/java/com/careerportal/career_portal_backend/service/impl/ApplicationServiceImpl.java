@@ -5,17 +5,18 @@ import com.careerportal.career_portal_backend.execption.AccessDeniedException;
 import com.careerportal.career_portal_backend.execption.ResourceNotFoundException;
 import com.careerportal.career_portal_backend.payload.ApplicationResponseDto;
 import com.careerportal.career_portal_backend.repository.*;
+import com.careerportal.career_portal_backend.security.CurrentUserContext;
 import com.careerportal.career_portal_backend.service.ApplicationService;
 import com.careerportal.career_portal_backend.service.FileStorageService;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class ApplicationServiceImpl implements ApplicationService {
@@ -23,22 +24,19 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final JobPostingRepository jobPostingRepository;
     private final JobSeekerProfileRepository jobSeekerProfileRepository;
-    private final UserRepository userRepository;
-    private final EmployerRepository employerRepository;
     private final FileStorageService fileStorageService;
+    private final CurrentUserContext currentUserContext;
 
     public ApplicationServiceImpl(ApplicationRepository applicationRepository,
                               JobPostingRepository jobPostingRepository,
                               JobSeekerProfileRepository jobSeekerProfileRepository,
-                              UserRepository userRepository,
-                              EmployerRepository employerRepository,
-                              FileStorageService fileStorageService) {
+                              FileStorageService fileStorageService,
+                              CurrentUserContext currentUserContext) {
         this.applicationRepository = applicationRepository;
         this.jobPostingRepository = jobPostingRepository;
         this.jobSeekerProfileRepository = jobSeekerProfileRepository;
-        this.userRepository = userRepository;
-        this.employerRepository= employerRepository;
         this.fileStorageService = fileStorageService;
+        this.currentUserContext = currentUserContext;
     }
 
     // --- Mapper ---
@@ -66,17 +64,22 @@ public class ApplicationServiceImpl implements ApplicationService {
         return dto;
     }
 
+    // Compares employer ids instead of walking job -> employer -> user, which would load both
+    private boolean isOwnedBy(Application application, String employerUsername) {
+        return currentUserContext.findEmployerId(employerUsername)
+                .map(employerId -> employerId.equals(application.getJobPosting().getEmployer().getId()))
+                .orElse(false);
+    }
+
     // --- Core Business Logic Methods ---
 
     /** Job Seeker submits an application */
     @Override
+    @Transactional
     public ApplicationResponseDto applyForJob(String username, Long jobId, MultipartFile resumeFile) {
-        // 1. Fetch Job Seeker Profile
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-
-        JobSeekerProfile profile = jobSeekerProfileRepository.findByUser_Id(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Job Seeker Profile", "User ID", user.getId().toString()));
+        // 1. Reference the authenticated Job Seeker Profile
+        JobSeekerProfile profile = jobSeekerProfileRepository.getReferenceById(
+                currentUserContext.requireJobSeekerProfileId(username));
 
         // 2. Fetch Job Posting
         JobPosting job = jobPostingRepository.findById(jobId)
@@ -117,6 +120,7 @@ public class ApplicationServiceImpl implements ApplicationService {
         application.setResumeFileSize(resumeFileSize);
 
         Application savedApplication = applicationRepository.save(application);
+        jobPostingRepository.incrementApplicationCount(jobId);
         return mapToDTO(savedApplication);
     }
 
@@ -128,50 +132,40 @@ public class ApplicationServiceImpl implements ApplicationService {
 
     /** Job Seeker views their application history */
     @Override
+    @Transactional(readOnly = true)
     public List<ApplicationResponseDto> getMyApplications(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-
-        JobSeekerProfile profile = jobSeekerProfileRepository.findByUser_Id(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Job Seeker Profile", "User ID", user.getId().toString()));
-
-        List<Application> applications = applicationRepository.findByJobSeekerProfile_Id(profile.getId());
+        Long profileId = currentUserContext.requireJobSeekerProfileId(username);
 
-        return applications.stream().map(this::mapToDTO).collect(Collectors.toList());
+        return applicationRepository.findResponsesByJobSeekerProfileId(profileId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ApplicationResponseDto> getApplicationsForJob(Long jobId, String employerUsername) {
-        // 1. Get the authenticated Employer Profile
-        User user = userRepository.findByUsername(employerUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", employerUsername));
-        Employer employer = employerRepository.findByUser_Id(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Employer Profile", "User ID", user.getId().toString()));
+        // 1. Get the authenticated Employer Profile id
+        Long employerId = currentUserContext.requireEmployerId(employerUsername);
 
         // 2. Fetch Job Posting and validate ownership
         JobPosting job = jobPostingRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job Posting", "id", jobId.toString()));
 
-        if (!job.getEmployer().getId().equals(employer.getId())) {
+        if (!job.getEmployer().getId().equals(employerId)) {
             throw new AccessDeniedException("You are not authorized to view applications for this job.");
         }
 
-        // 3. Fetch and map applications
-        List<Application> applications = applicationRepository.findByJobPosting_Id(jobId);
-
-        return applications.stream()
-                .map(this::mapToDTO) // Reuse existing mapper
-                .collect(Collectors.toList());
+        // 3. Fetch applications already mapped to DTOs (single query, no lazy loads per applicant)
+        return applicationRepository.findResponsesByJobPostingId(jobId);
     }
 
     /** Employer updates the status of a specific application */
     @Override
+    @Transactional
     public ApplicationResponseDto updateApplicationStatus(Long applicationId, String newStatus, String recruiterNotes, String employerUsername) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId.toString()));
 
         // 1. Validate that the job owner is the authenticated employer (Security check)
-        if (!application.getJobPosting().getEmployer().getUser().getUsername().equals(employerUsername)) {
+        if (!isOwnedBy(application, employerUsername)) {
             throw new AccessDeniedException("You are not authorized to modify this application.");
         }
 
@@ -188,24 +182,31 @@ public class ApplicationServiceImpl implements ApplicationService {
         return applicationRepository.countByJobPosting_Id(jobId);
     }
 
-    /** Get application counts for multiple jobs */
+    /** Get application counts for multiple jobs (one grouped query, jobs without applications map to 0) */
     @Override
     public Map<Long, Long> getApplicationCountsForJobs(List<Long> jobIds) {
-        return jobIds.stream()
-                .collect(Collectors.toMap(
-                    jobId -> jobId,
-                    this::getApplicationCountForJob
-                ));
+        Map<Long, Long> counts = new HashMap<>(jobIds.size() * 2);
+        if (jobIds.isEmpty()) {
+            return counts;
+        }
+        for (Long jobId : jobIds) {
+            counts.put(jobId, 0L);
+        }
+        for (ApplicationRepository.JobApplicationCount row : applicationRepository.countByJobPostingIds(jobIds)) {
+            counts.put(row.getJobId(), row.getApplicationCount());
+        }
+        return counts;
     }
 
     /** Get resume file for an application (for employers) */
     @Override
+    @Transactional(readOnly = true)
     public Resource getApplicationResume(Long applicationId, String employerUsername) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId.toString()));
 
         // Verify that the job belongs to the authenticated employer
-        if (!application.getJobPosting().getEmployer().getUser().getUsername().equals(employerUsername)) {
+        if (!isOwnedBy(application, employerUsername)) {
             throw new AccessDeniedException("You are not authorized to download this resume.");
         }
 
@@ -218,17 +219,18 @@ public class ApplicationServiceImpl implements ApplicationService {
         String fileId = filePath.contains("/") ? filePath.substring(filePath.lastIndexOf("/") + 1) : filePath;
         
         com.careerportal.career_portal_backend.entity.DBFile dbFile = fileStorageService.getFile(fileId);
-        return new ByteArrayResource(dbFile.getData());
+        return fileStorageService.loadFileAsResource(dbFile);
     }
 
     /** Get resume filename for an application (for employers) */
     @Override
+    @Transactional(readOnly = true)
     public String getApplicationResumeFileName(Long applicationId, String employerUsername) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId.toString()));
 
         // Verify that the job belongs to the authenticated employer
-        if (!application.getJobPosting().getEmployer().getUser().getUsername().equals(employerUsername)) {
+        if (!isOwnedBy(application, employerUsername)) {
             throw new AccessDeniedException("You are not authorized to access this resume.");
         }
 
@@ -0,0 +1,122 @@
+package com.careerportal.career_portal_backend.service.impl;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import com.careerportal.career_portal_backend.repository.DerivativeJobRepository;
+import com.careerportal.career_portal_backend.service.DerivativeService;
+import com.careerportal.career_portal_backend.service.FileStorageService;
+import com.careerportal.career_portal_backend.storage.DerivativeRenderer;
+import com.careerportal.career_portal_backend.storage.FileDeletedEvent;
+import com.careerportal.career_portal_backend.storage.FileStoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+public class DerivativeServiceImpl implements DerivativeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DerivativeServiceImpl.class);
+
+    private static final String DERIVED_TYPE = "image/png";
+
+    private final DerivativeJobRepository derivativeJobRepository;
+    private final FileStorageService fileStorageService;
+    private final DerivativeRenderer derivativeRenderer;
+    private final int maxAttempts;
+
+    public DerivativeServiceImpl(DerivativeJobRepository derivativeJobRepository,
+                                 FileStorageService fileStorageService,
+                                 DerivativeRenderer derivativeRenderer,
+                                 @Value("${app.derivatives.max-attempts:3}") int maxAttempts) {
+        this.derivativeJobRepository = derivativeJobRepository;
+        this.fileStorageService = fileStorageService;
+        this.derivativeRenderer = derivativeRenderer;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // Queue a thumbnail for photos and a preview for PDFs; the worker picks the job up
+    @EventListener
+    public void onFileStored(FileStoredEvent event) {
+        DerivativeJob.Kind kind = kindFor(event.fileType());
+        if (kind != null) {
+            derivativeJobRepository.save(new DerivativeJob(event.fileId(), kind));
+        }
+    }
+
+    // Derived files go away with their source
+    @EventListener
+    public void onFileDeleted(FileDeletedEvent event) {
+        for (DerivativeJob job : derivativeJobRepository.findBySourceFileId(event.fileId())) {
+            derivativeJobRepository.delete(job);
+            if (job.getDerivedFileId() != null) {
+                fileStorageService.deleteFile(job.getDerivedFileId());
+            }
+        }
+    }
+
+    @Override
+    public Optional<DBFile> findDerivedFile(String sourceFileId, DerivativeJob.Kind kind) {
+        return derivativeJobRepository
+                .findFirstBySourceFileIdAndKindAndStatus(sourceFileId, kind, DerivativeJob.Status.DONE)
+                .map(job -> fileStorageService.getFile(job.getDerivedFileId()));
+    }
+
+    // Runs on the worker pool after DerivativeJobWorker claimed the job; rendering happens outside any transaction
+    @Override
+    public boolean process(Long jobId) {
+        Optional<DerivativeJob> claimed = derivativeJobRepository.findById(jobId);
+        if (claimed.isEmpty()) {
+            return false; // source file deleted while the job was queued
+        }
+        DerivativeJob job = claimed.get();
+
+        String derivedFileId = null;
+        DerivativeJob.Status status;
+        String lastError = null;
+        try {
+            DBFile source = fileStorageService.getFile(job.getSourceFileId());
+            Resource content = fileStorageService.loadFileAsResource(source);
+            byte[] png = job.getKind() == DerivativeJob.Kind.THUMBNAIL
+                    ? derivativeRenderer.thumbnail(content)
+                    : derivativeRenderer.pdfPreview(content);
+
+            String name = job.getKind().name().toLowerCase() + "-" + source.getId() + ".png";
+            derivedFileId = fileStorageService.storeDerivedFile(name, DERIVED_TYPE, png);
+            status = DerivativeJob.Status.DONE;
+            logger.debug("Generated {} for file {} ({} bytes)", job.getKind(), source.getId(), png.length);
+        } catch (Exception ex) {
+            boolean retry = job.getAttempts() < maxAttempts;
+            status = retry ? DerivativeJob.Status.PENDING : DerivativeJob.Status.FAILED;
+            String message = String.valueOf(ex.getMessage());
+            lastError = message.length() > 500 ? message.substring(0, 500) : message;
+            logger.warn("Could not generate {} for file {} (attempt {}{})", job.getKind(), job.getSourceFileId(),
+                    job.getAttempts(), retry ? ", will retry" : ", giving up", ex);
+        }
+
+        // Only while the job is still ours: it may have been deleted with its source, or re-queued as stale
+        if (derivativeJobRepository.finish(jobId, status, derivedFileId, lastError, LocalDateTime.now()) == 0) {
+            logger.info("Derivative job {} changed while rendering, discarding its result", jobId);
+            if (derivedFileId != null) {
+                fileStorageService.deleteFile(derivedFileId);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static DerivativeJob.Kind kindFor(String fileType) {
+        if (fileType == null) {
+            return null;
+        }
+        if (fileType.startsWith("image/")) {
+            return DerivativeJob.Kind.THUMBNAIL;
+        }
+        return "application/pdf".equals(fileType) ? DerivativeJob.Kind.PREVIEW : null;
+    }
+}
@@ -3,20 +3,41 @@ package com.careerportal.career_portal_backend.service.impl;
 import com.careerportal.career_portal_backend.entity.Employer;
 import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.payload.EmployerRegisterDto;
+import com.careerportal.career_portal_backend.payload.EmployerSuggestionDto;
 import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import com.careerportal.career_portal_backend.search.EmployerChangedEvent;
+import com.careerportal.career_portal_backend.search.EmployerSuggestIndex;
 import com.careerportal.career_portal_backend.service.EmployerService;
+import com.careerportal.career_portal_backend.specifications.EmployerSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class EmployerServiceImpl implements EmployerService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployerServiceImpl.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
     private final EmployerRepository employerRepository;
+    private final EmployerSuggestIndex employerSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public EmployerServiceImpl(EmployerRepository employerRepository) {
+    public EmployerServiceImpl(EmployerRepository employerRepository, EmployerSuggestIndex employerSuggestIndex,
+                               ApplicationEventPublisher eventPublisher) {
         this.employerRepository = employerRepository;
+        this.employerSuggestIndex = employerSuggestIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -44,6 +65,7 @@ public class EmployerServiceImpl implements EmployerService {
         employer.setCompanyPhone(registerDto.getCompanyPhone());
         
         Employer savedEmployer = employerRepository.save(employer);
+        eventPublisher.publishEvent(EmployerChangedEvent.saved(savedEmployer));
         logger.info("Created employer profile with ID: {} for user: {}", savedEmployer.getId(), user.getUsername());
         
         return savedEmployer;
@@ -69,6 +91,7 @@ public class EmployerServiceImpl implements EmployerService {
         employer.setCompanyPhone("Please Update Phone");
         
         Employer savedEmployer = employerRepository.save(employer);
+        eventPublisher.publishEvent(EmployerChangedEvent.saved(savedEmployer));
         logger.info("Created default employer profile with ID: {} for user: {}", savedEmployer.getId(), user.getUsername());
         
         return savedEmployer;
@@ -147,42 +170,53 @@ public class EmployerServiceImpl implements EmployerService {
         }
         
         Employer updatedEmployer = employerRepository.save(employer);
+        eventPublisher.publishEvent(EmployerChangedEvent.saved(updatedEmployer));
         logger.info("Updated employer profile with ID: {} for user: {}", updatedEmployer.getId(), user.getUsername());
         
         return updatedEmployer;
     }
 
     /**
-     * Gets all employers with optional filters
+     * Gets one page of employers matching the optional filters, ordered by company name
      */
     @Override
-    public java.util.List<Employer> getAllEmployers(String companyName, String industry, Integer foundedAfter) {
-        logger.info("Fetching all employers with filters");
-        
-        java.util.List<Employer> employers = employerRepository.findAll();
-        
-        // Apply filters
-        if (companyName != null && !companyName.trim().isEmpty()) {
-            employers = employers.stream()
-                    .filter(emp -> emp.getCompanyName() != null && 
-                            emp.getCompanyName().toLowerCase().contains(companyName.toLowerCase()))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
-        if (industry != null && !industry.trim().isEmpty()) {
-            employers = employers.stream()
-                    .filter(emp -> emp.getIndustry() != null && 
-                            emp.getIndustry().toLowerCase().contains(industry.toLowerCase()))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
-        if (foundedAfter != null) {
-            employers = employers.stream()
-                    .filter(emp -> emp.getFounded() != null && emp.getFounded() >= foundedAfter)
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
-        logger.info("Returning {} employers after filtering", employers.size());
+    @Transactional(readOnly = true)
+    public Page<Employer> getAllEmployers(String companyName, String industry, Integer foundedAfter,
+                                          Integer page, Integer size) {
+        logger.info("Fetching employers with filters");
+
+        // Filtering and paging run in the database, so only the requested page of matches is loaded
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        Page<Employer> employers = employerRepository.findAll(
+                EmployerSpecification.filterEmployers(companyName, industry, foundedAfter),
+                PageRequest.of(pageNumber, pageSize, Sort.by("companyName", "id")));
+
+        logger.info("Returning {} of {} matching employers", employers.getNumberOfElements(), employers.getTotalElements());
         return employers;
     }
+
+    /**
+     * Suggests company names and industries starting with the query, for typeahead
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmployerSuggestionDto suggestEmployers(String query, Integer limit) {
+        int maxResults = limit == null || limit <= 0 ? DEFAULT_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
+        if (employerSuggestIndex.isReady()) {
+            return employerSuggestIndex.suggest(query, maxResults);
+        }
+
+        // The index is still being built at startup; answer company names from the database meanwhile
+        if (query == null || query.isBlank()) {
+            return new EmployerSuggestionDto(List.of(), List.of());
+        }
+        List<EmployerSuggestionDto.Company> companies = employerRepository.findAll(
+                        EmployerSpecification.filterEmployers(query.trim(), null, null),
+                        PageRequest.of(0, maxResults, Sort.by("companyName", "id")))
+                .stream()
+                .map(employer -> new EmployerSuggestionDto.Company(employer.getId(), employer.getCompanyName()))
+                .collect(Collectors.toList());
+        return new EmployerSuggestionDto(companies, List.of());
+    }
 }
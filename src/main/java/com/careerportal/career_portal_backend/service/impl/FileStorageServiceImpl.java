@@ -3,13 +3,33 @@ package com.careerportal.career_portal_backend.service.impl;
 import com.careerportal.career_portal_backend.entity.DBFile;
 import com.careerportal.career_portal_backend.repository.DBFileRepository;
 import com.careerportal.career_portal_backend.service.FileStorageService;
+import com.careerportal.career_portal_backend.storage.BlobStore;
+import com.careerportal.career_portal_backend.storage.ContentHashes;
+import com.careerportal.career_portal_backend.storage.DatabaseBlobStore;
+import com.careerportal.career_portal_backend.storage.DecodedResource;
+import com.careerportal.career_portal_backend.storage.FileDeletedEvent;
+import com.careerportal.career_portal_backend.storage.FileStoredEvent;
+import com.careerportal.career_portal_backend.storage.GzipCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class FileStorageServiceImpl implements FileStorageService {
@@ -17,9 +37,24 @@ public class FileStorageServiceImpl implements FileStorageService {
     private static final Logger logger = LoggerFactory.getLogger(FileStorageServiceImpl.class);
 
     private final DBFileRepository dbFileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GzipCodec gzipCodec;
+    private final Map<String, BlobStore> blobStores;
+    private final BlobStore activeBlobStore;
 
-    public FileStorageServiceImpl(DBFileRepository dbFileRepository) {
+    public FileStorageServiceImpl(DBFileRepository dbFileRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  GzipCodec gzipCodec,
+                                  List<BlobStore> blobStores,
+                                  @Value("${app.storage.backend:filesystem}") String backend) {
         this.dbFileRepository = dbFileRepository;
+        this.eventPublisher = eventPublisher;
+        this.gzipCodec = gzipCodec;
+        this.blobStores = blobStores.stream().collect(Collectors.toMap(BlobStore::getName, Function.identity()));
+        this.activeBlobStore = this.blobStores.get(backend);
+        if (activeBlobStore == null) {
+            throw new IllegalStateException("Unknown storage backend '" + backend + "', expected one of " + this.blobStores.keySet());
+        }
     }
 
     @Override
@@ -33,11 +68,28 @@ public class FileStorageServiceImpl implements FileStorageService {
                 throw new RuntimeException("Sorry! Filename contains invalid path sequence " + fileName);
             }
 
-            DBFile dbFile = new DBFile(fileName, file.getContentType(), file.getBytes());
+            DBFile dbFile = new DBFile(fileName, file.getContentType());
+            dbFile.setStorageBackend(activeBlobStore.getName());
+
+            // Identical content is stored once: point the new row at the existing blob instead of writing again
+            DBFile existing = findStoredContent(file);
+            if (existing != null) {
+                dbFile.setFileSize(existing.getFileSize());
+                dbFile.setContentHash(existing.getContentHash());
+                dbFile.setStorageLocation(existing.getStorageLocation());
+                dbFile.setContentEncoding(existing.getContentEncoding());
+                logger.info("Reusing stored content {} for upload {}", existing.getStorageLocation(), fileName);
+            } else {
+                // Stream the upload into the backend; size and hash are computed on the way through
+                try (InputStream content = file.getInputStream()) {
+                    activeBlobStore.write(dbFile, content);
+                }
+            }
 
             DBFile savedFile = dbFileRepository.save(dbFile);
             
-            logger.info("File stored in database successfully with ID: {}", savedFile.getId());
+            logger.info("File stored in {} backend successfully with ID: {}", savedFile.getStorageBackend(), savedFile.getId());
+            eventPublisher.publishEvent(new FileStoredEvent(savedFile.getId(), savedFile.getFileType()));
             return savedFile.getId();
         } catch (IOException ex) {
             logger.error("Could not store file {}. Please try again!", fileName, ex);
@@ -45,18 +97,70 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    @Override
+    public String storeDerivedFile(String fileName, String fileType, byte[] content) {
+        DBFile dbFile = new DBFile(fileName, fileType);
+        dbFile.setStorageBackend(activeBlobStore.getName());
+        try {
+            activeBlobStore.write(dbFile, new ByteArrayInputStream(content));
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not store file " + fileName, ex);
+        }
+        return dbFileRepository.save(dbFile).getId();
+    }
+
+    // Hashes the upload (a read of the multipart temp file, no write) and looks for a blob with that content.
+    // Only backends that address content by location can share it; database rows each keep their own copy.
+    private DBFile findStoredContent(MultipartFile file) throws IOException {
+        if (DatabaseBlobStore.NAME.equals(activeBlobStore.getName())) {
+            return null;
+        }
+        MessageDigest sha256 = ContentHashes.newSha256();
+        try (InputStream content = new DigestInputStream(file.getInputStream(), sha256)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        }
+        DBFile existing = dbFileRepository
+                .findFirstByContentHashAndStorageBackendAndStorageLocationIsNotNull(
+                        ContentHashes.toHex(sha256.digest()), activeBlobStore.getName())
+                .orElse(null);
+        // Retaining refreshes the blob's last use, so the blob sweep cannot remove it before the new row
+        // commits even if the row found here is deleted meanwhile; a blob already swept is written again
+        return existing != null && activeBlobStore.retain(existing) ? existing : null;
+    }
+
     @Override
     public DBFile getFile(String fileId) {
-        return dbFileRepository.findById(fileId)
+        return dbFileRepository.findMetadataById(fileId)
                 .orElseThrow(() -> new RuntimeException("File not found with id " + fileId));
     }
 
+    @Override
+    public Resource loadFileAsResource(DBFile file) {
+        Resource stored = loadStoredResource(file);
+        if (GzipCodec.ENCODING.equals(file.getContentEncoding())) {
+            return new DecodedResource(stored, gzipCodec, file.getFileSize());
+        }
+        return stored;
+    }
+
+    @Override
+    public Resource loadStoredResource(DBFile file) {
+        try {
+            return blobStoreFor(file).read(file);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not read file " + file.getId(), ex);
+        }
+    }
+
     @Override
     public void deleteFile(String fileId) {
         try {
-            if (fileId != null && dbFileRepository.existsById(fileId)) {
-                dbFileRepository.deleteById(fileId);
-                logger.info("File deleted successfully from database: {}", fileId);
+            DBFile dbFile = fileId != null ? dbFileRepository.findById(fileId).orElse(null) : null;
+            if (dbFile != null) {
+                // Only the row: a shared blob is removed by UnreferencedBlobCollector once nothing uses it
+                dbFileRepository.delete(dbFile);
+                eventPublisher.publishEvent(new FileDeletedEvent(fileId));
+                logger.info("File deleted successfully: {}", fileId);
             } else {
                  logger.warn("File not found or ID is null, could not delete: {}", fileId);
             }
@@ -64,4 +168,23 @@ public class FileStorageServiceImpl implements FileStorageService {
             logger.error("Could not delete file with ID: {}", fileId, ex);
         }
     }
+
+    @Override
+    public void deleteFiles(Collection<String> fileIds) {
+        if (fileIds.isEmpty()) {
+            return;
+        }
+        dbFileRepository.deleteAllByIdInBatch(fileIds);
+        fileIds.forEach(fileId -> eventPublisher.publishEvent(new FileDeletedEvent(fileId)));
+        logger.info("Deleted {} files", fileIds.size());
+    }
+
+    private BlobStore blobStoreFor(DBFile file) {
+        String backend = file.getStorageBackend() != null ? file.getStorageBackend() : DatabaseBlobStore.NAME;
+        BlobStore blobStore = blobStores.get(backend);
+        if (blobStore == null) {
+            throw new IllegalStateException("File " + file.getId() + " is stored in unknown backend " + backend);
+        }
+        return blobStore;
+    }
 }
@@ -2,43 +2,73 @@ package com.careerportal.career_portal_backend.service.impl;
 
 import com.careerportal.career_portal_backend.entity.Employer;
 import com.careerportal.career_portal_backend.entity.JobPosting;
-import com.careerportal.career_portal_backend.entity.User;
 import com.careerportal.career_portal_backend.execption.ResourceNotFoundException;
 import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.careerportal.career_portal_backend.payload.JobPostingPageDto;
 import com.careerportal.career_portal_backend.repository.EmployerRepository;
 import com.careerportal.career_portal_backend.repository.JobPostingRepository;
 import com.careerportal.career_portal_backend.repository.UserRepository;
+import com.careerportal.career_portal_backend.search.JobPostingChangedEvent;
+import com.careerportal.career_portal_backend.search.JobSearchIndex;
+import com.careerportal.career_portal_backend.security.CurrentUserContext;
 import com.careerportal.career_portal_backend.service.EmployerService;
 import com.careerportal.career_portal_backend.service.JobPostingService;
+import com.careerportal.career_portal_backend.specifications.JobKeysetCursor;
 import com.careerportal.career_portal_backend.specifications.JobSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.jpa.AvailableHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class JobPostingServiceImpl implements JobPostingService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobPostingServiceImpl.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_BATCH_SIZE = 500;
 
     private final JobPostingRepository jobPostingRepository;
     private final EmployerRepository employerRepository;
     private final UserRepository userRepository;
     private final EmployerService employerService;
+    private final JobSearchIndex jobSearchIndex;
+    private final CurrentUserContext currentUserContext;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
 
     public JobPostingServiceImpl(JobPostingRepository jobPostingRepository,
                              EmployerRepository employerRepository,
                              UserRepository userRepository,
-                             EmployerService employerService) {
+                             EmployerService employerService,
+                             JobSearchIndex jobSearchIndex,
+                             CurrentUserContext currentUserContext,
+                             ApplicationEventPublisher eventPublisher) {
         this.jobPostingRepository = jobPostingRepository;
         this.employerRepository = employerRepository;
         this.userRepository = userRepository;
         this.employerService = employerService;
+        this.jobSearchIndex = jobSearchIndex;
+        this.currentUserContext = currentUserContext;
+        this.eventPublisher = eventPublisher;
     }
 
     // --- Mapper (Simple conversion from DTO to Entity) ---
@@ -73,7 +103,7 @@ public class JobPostingServiceImpl implements JobPostingService {
         dto.setSalaryDetails(jobPosting.getSalaryDetails());
         dto.setDatePosted(jobPosting.getDatePosted());
         dto.setIsActive(jobPosting.getIsActive());
-        dto.setApplicationCount(0L); // Will be set by controller if needed
+        dto.setApplicationCount(jobPosting.getApplicationCount());
         return dto;
     }
 
@@ -87,14 +117,13 @@ public class JobPostingServiceImpl implements JobPostingService {
             logger.info("Creating job posting for username: {}", username);
             logger.info("Job posting data: {}", jobPostingDto);
 
-            // 1. Get the authenticated User
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            logger.info("Found user: {} with ID: {}", user.getUsername(), user.getId());
-
-            // 2. Get or create the Employer profile linked to this User
-            Employer employer = employerService.getOrCreateEmployerProfile(user);
-            logger.info("Found/Created employer: {} with ID: {}", employer.getCompanyName(), employer.getId());
+            // 1-2. Use the authenticated employer's profile, or create one for a user that has none yet
+            Employer employer = currentUserContext.findEmployerId(username)
+                    .map(employerRepository::getReferenceById)
+                    .orElseGet(() -> employerService.getOrCreateEmployerProfile(
+                            userRepository.findByUsername(username)
+                                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username))));
+            logger.info("Posting job for employer with ID: {}", employer.getId());
 
             // 3. Convert DTO to Entity and save
             JobPosting newJob = mapToEntity(jobPostingDto, employer);
@@ -102,6 +131,7 @@ public class JobPostingServiceImpl implements JobPostingService {
             
             JobPosting savedJob = jobPostingRepository.save(newJob);
             logger.info("Saved job posting with ID: {}", savedJob.getId());
+            eventPublisher.publishEvent(JobPostingChangedEvent.saved(savedJob));
 
             // Verify the job was actually saved by fetching it again
             JobPosting verifyJob = jobPostingRepository.findById(savedJob.getId()).orElse(null);
@@ -128,26 +158,92 @@ public class JobPostingServiceImpl implements JobPostingService {
         List<JobPosting> jobs = jobPostingRepository.findAll();
         logger.info("Found {} job postings in database", jobs.size());
         
-        // Log each job for debugging
-        for (JobPosting job : jobs) {
-            logger.info("Job ID: {}, Title: {}, Employer: {}", 
-                job.getId(), job.getJobTitle(), 
-                job.getEmployer() != null ? job.getEmployer().getCompanyName() : "null");
-        }
-        
         return jobs.stream().map(this::mapToDTO).collect(Collectors.toList());
     }
 
+    /**
+     * Streams all job listings in id order, reading them in keyset batches so neither the whole table
+     * nor a database connection is held while the consumer writes to a (possibly slow) client.
+     */
     @Override
-    public List<JobPostingDto> searchJobPostings(String keyword, String location, String experienceLevel) {
+    public void streamAllJobPostings(Consumer<JobPostingDto> consumer) {
+        long count = 0;
+        long lastId = 0;
+        List<JobPostingDto> batch;
+        do {
+            batch = readJobBatch(lastId);
+            for (JobPostingDto job : batch) {
+                consumer.accept(job);
+            }
+            count += batch.size();
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == STREAM_BATCH_SIZE);
+        logger.info("Streamed {} job postings", count);
+    }
 
-        // Create the dynamic specification
-        Specification<JobPosting> spec = JobSpecification.filterJobs(keyword, location, experienceLevel);
+    // Uses its own short-lived EntityManager: the shared one is bound to the whole request by
+    // open-in-view and would keep its connection until the last row has been written
+    private List<JobPostingDto> readJobBatch(long afterId) {
+        EntityManager batchEntityManager = entityManagerFactory.createEntityManager();
+        try {
+            return batchEntityManager
+                    .createQuery("select j from JobPosting j where j.id > :afterId order by j.id", JobPosting.class)
+                    .setParameter("afterId", afterId)
+                    .setMaxResults(STREAM_BATCH_SIZE)
+                    .setHint(AvailableHints.HINT_READ_ONLY, true)
+                    .getResultStream()
+                    .map(this::mapToDTO)
+                    .toList();
+        } finally {
+            batchEntityManager.close();
+        }
+    }
 
-        // Use the findAll method from JpaSpecificationExecutor
-        List<JobPosting> jobs = jobPostingRepository.findAll(spec);
+    @Override
+    public JobPostingPageDto searchJobPostings(String keyword, String location, String experienceLevel,
+                                               String sort, String cursor, Integer size) {
 
-        return jobs.stream().map(this::mapToDTO).collect(Collectors.toList());
+        JobKeysetCursor.SortOrder sortOrder = JobKeysetCursor.SortOrder.fromParam(sort);
+        JobKeysetCursor after = StringUtils.hasText(cursor) ? JobKeysetCursor.decode(cursor) : null;
+        if (after != null && after.getSortOrder() != sortOrder) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        // Answer the keyword part from the in-memory index; the LIKE scan is only a fallback
+        // for when the index cannot answer (still building, or no searchable terms in the keyword)
+        Optional<Set<Long>> matchingIds = StringUtils.hasText(keyword)
+                ? jobSearchIndex.search(keyword)
+                : Optional.empty();
+
+        Specification<JobPosting> spec;
+        if (matchingIds.isPresent()) {
+            if (matchingIds.get().isEmpty()) {
+                return new JobPostingPageDto(Collections.emptyList(), null);
+            }
+            spec = JobSpecification.filterJobs(null, location, experienceLevel)
+                    .and(JobSpecification.hasIdIn(matchingIds.get()));
+        } else {
+            spec = JobSpecification.filterJobs(keyword, location, experienceLevel);
+        }
+
+        if (after != null) {
+            spec = spec.and(after.toSpecification());
+        }
+
+        // Seek to the cursor and read one extra row to learn whether another page exists
+        List<JobPosting> jobs = jobPostingRepository.findBy(spec,
+                query -> query.sortBy(sortOrder.getSort()).limit(pageSize + 1).all());
+
+        String nextCursor = null;
+        if (jobs.size() > pageSize) {
+            jobs = jobs.subList(0, pageSize);
+            nextCursor = JobKeysetCursor.after(jobs.get(pageSize - 1), sortOrder).encode();
+        }
+
+        return new JobPostingPageDto(jobs.stream().map(this::mapToDTO).collect(Collectors.toList()), nextCursor);
     }
 
     /** Gets all job postings for a specific employer */
@@ -156,19 +252,12 @@ public class JobPostingServiceImpl implements JobPostingService {
         try {
             logger.info("Fetching job postings for employer username: {}", username);
             
-            // 1. Get the authenticated User
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            logger.info("Found user: {} with ID: {}", user.getUsername(), user.getId());
-
-            // 2. Get the Employer profile linked to this User
-            Employer employer = employerRepository.findByUser_Id(user.getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Employer profile not found for user: " + username));
-            logger.info("Found employer: {} with ID: {}", employer.getCompanyName(), employer.getId());
+            // 1-2. Get the Employer profile id of the authenticated User
+            Long employerId = currentUserContext.requireEmployerId(username);
 
             // 3. Get all job postings for this employer
-            List<JobPosting> jobs = jobPostingRepository.findByEmployer_Id(employer.getId());
-            logger.info("Found {} job postings for employer: {}", jobs.size(), employer.getCompanyName());
+            List<JobPosting> jobs = jobPostingRepository.findByEmployer_Id(employerId);
+            logger.info("Found {} job postings for employer ID: {}", jobs.size(), employerId);
             
             // Log each job for debugging
             for (JobPosting job : jobs) {
@@ -183,6 +272,13 @@ public class JobPostingServiceImpl implements JobPostingService {
         }
     }
 
+    /** Gets the job postings with the given IDs, in no particular order */
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobPostingDto> getJobPostingsByIds(Collection<Long> jobIds) {
+        return jobPostingRepository.findAllById(jobIds).stream().map(this::mapToDTO).collect(Collectors.toList());
+    }
+
     /** Gets a job posting by ID */
     @Override
     public JobPostingDto getJobById(Long jobId) {
@@ -208,21 +304,14 @@ public class JobPostingServiceImpl implements JobPostingService {
         try {
             logger.info("Updating job posting with ID: {} for username: {} with data: {}", jobId, username, jobPostingDto);
             
-            // 1. Get the authenticated User
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            logger.info("Found user: {} with ID: {}", user.getUsername(), user.getId());
-
-            // 2. Get the Employer profile linked to this User
-            Employer employer = employerRepository.findByUser_Id(user.getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Employer profile not found for user: " + username));
-            logger.info("Found employer: {} with ID: {}", employer.getCompanyName(), employer.getId());
+            // 1-2. Get the Employer profile id of the authenticated User
+            Long employerId = currentUserContext.requireEmployerId(username);
 
             // 3. Get the job posting and verify it belongs to this employer
             JobPosting jobPosting = jobPostingRepository.findById(jobId)
                     .orElseThrow(() -> new ResourceNotFoundException("Job posting id"));
             
-            if (!jobPosting.getEmployer().getId().equals(employer.getId())) {
+            if (!jobPosting.getEmployer().getId().equals(employerId)) {
                 throw new RuntimeException("You can only update your own job postings");
             }
             
@@ -240,6 +329,7 @@ public class JobPostingServiceImpl implements JobPostingService {
             
             // 5. Save the updated job posting
             JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+            eventPublisher.publishEvent(JobPostingChangedEvent.saved(updatedJobPosting));
             logger.info("Successfully updated job posting with ID: {}", jobId);
             
             return mapToDTO(updatedJobPosting);
@@ -257,26 +347,20 @@ public class JobPostingServiceImpl implements JobPostingService {
         try {
             logger.info("Deleting job posting with ID: {} for username: {}", jobId, username);
             
-            // 1. Get the authenticated User
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            logger.info("Found user: {} with ID: {}", user.getUsername(), user.getId());
-
-            // 2. Get the Employer profile linked to this User
-            Employer employer = employerRepository.findByUser_Id(user.getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Employer profile not found for user: " + username));
-            logger.info("Found employer: {} with ID: {}", employer.getCompanyName(), employer.getId());
+            // 1-2. Get the Employer profile id of the authenticated User
+            Long employerId = currentUserContext.requireEmployerId(username);
 
             // 3. Get the job posting and verify it belongs to this employer
             JobPosting jobPosting = jobPostingRepository.findById(jobId)
                     .orElseThrow(() -> new ResourceNotFoundException("Job posting not found"));
             
-            if (!jobPosting.getEmployer().getId().equals(employer.getId())) {
+            if (!jobPosting.getEmployer().getId().equals(employerId)) {
                 throw new RuntimeException("You can only delete your own job postings");
             }
             
             // 4. Delete the job posting
             jobPostingRepository.delete(jobPosting);
+            eventPublisher.publishEvent(JobPostingChangedEvent.deleted(jobId));
             logger.info("Successfully deleted job posting with ID: {}", jobId);
             
         } catch (Exception e) {
@@ -10,10 +10,13 @@ import com.careerportal.career_portal_backend.payload.JobSeekerRegisterDto;
 import com.careerportal.career_portal_backend.repository.EducationDetailRepository;
 import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
 import com.careerportal.career_portal_backend.repository.UserRepository;
+import com.careerportal.career_portal_backend.search.JobSeekerProfileChangedEvent;
+import com.careerportal.career_portal_backend.security.CurrentUserContext;
 import com.careerportal.career_portal_backend.service.FileStorageService;
 import com.careerportal.career_portal_backend.service.JobSeekerProfileService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,15 +32,21 @@ public class JobSeekerProfileServiceImpl implements JobSeekerProfileService {
     private final UserRepository userRepository;
     private final EducationDetailRepository educationDetailRepository;
     private final FileStorageService fileStorageService;
+    private final CurrentUserContext currentUserContext;
+    private final ApplicationEventPublisher eventPublisher;
 
     public JobSeekerProfileServiceImpl(JobSeekerProfileRepository profileRepository,
                                    UserRepository userRepository,
                                    EducationDetailRepository educationDetailRepository,
-                                   FileStorageService fileStorageService) {
+                                   FileStorageService fileStorageService,
+                                   CurrentUserContext currentUserContext,
+                                   ApplicationEventPublisher eventPublisher) {
         this.profileRepository = profileRepository;
         this.userRepository = userRepository;
         this.educationDetailRepository = educationDetailRepository;
         this.fileStorageService = fileStorageService;
+        this.currentUserContext = currentUserContext;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -62,6 +71,7 @@ public class JobSeekerProfileServiceImpl implements JobSeekerProfileService {
         profile.setPhotoFilePath(registerDto.getPhotoFilePath());
         
         JobSeekerProfile savedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(JobSeekerProfileChangedEvent.saved(savedProfile));
         logger.info("Created job seeker profile with ID: {} for user: {}", savedProfile.getId(), user.getUsername());
         
         return savedProfile;
@@ -94,7 +104,9 @@ public class JobSeekerProfileServiceImpl implements JobSeekerProfileService {
         profile.setWorkExperience("Please Update Work Experience");
         profile.setSkills("Please Update Skills");
         
-        return profileRepository.save(profile);
+        JobSeekerProfile savedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(JobSeekerProfileChangedEvent.saved(savedProfile));
+        return savedProfile;
     }
 
     // --- Mapper Methods (Updated for new structure) ---
@@ -138,11 +150,10 @@ public class JobSeekerProfileServiceImpl implements JobSeekerProfileService {
     /** Fetches the logged-in user's profile */
     @Override
     public JobSeekerProfileDto getProfileByUsername(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        Long profileId = currentUserContext.requireJobSeekerProfileId(username);
 
-        JobSeekerProfile profile = profileRepository.findByUser_Id(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Job Seeker Profile", "User ID", user.getId().toString()));
+        JobSeekerProfile profile = profileRepository.findById(profileId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job Seeker Profile", "id", profileId.toString()));
 
         return mapToDTO(profile);
     }
@@ -151,12 +162,12 @@ public class JobSeekerProfileServiceImpl implements JobSeekerProfileService {
     @Override
     @Transactional
     public JobSeekerProfileDto updateProfile(String username, JobSeekerProfileDto profileDto) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-
         // Find existing profile or create a new one if it doesn't exist yet
-        JobSeekerProfile profile = profileRepository.findByUser_Id(user.getId())
+        JobSeekerProfile profile = currentUserContext.findJobSeekerProfileId(username)
+                .flatMap(profileRepository::findById)
                 .orElseGet(() -> {
+                    User user = userRepository.findByUsername(username)
+                            .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
                     JobSeekerProfile newProfile = new JobSeekerProfile();
                     newProfile.setUser(user);
                     return newProfile;
@@ -220,6 +231,7 @@ public class JobSeekerProfileServiceImpl implements JobSeekerProfileService {
         }
 
         JobSeekerProfile updatedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(JobSeekerProfileChangedEvent.saved(updatedProfile));
         return mapToDTO(updatedProfile);
     }
 }
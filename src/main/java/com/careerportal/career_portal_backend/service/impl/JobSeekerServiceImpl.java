@@ -1,34 +1,127 @@
 package com.careerportal.career_portal_backend.service.impl;
 
 import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.payload.CandidateSearchResultDto;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
 import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.search.CandidateSearchIndex;
 import com.careerportal.career_portal_backend.service.JobSeekerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class JobSeekerServiceImpl implements JobSeekerService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSeekerServiceImpl.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Deepest page a search may ask for; ranking keeps (page + 1) * size hits in memory
+    private static final int MAX_SEARCH_PAGE = 100;
+    private static final int FACET_LIMIT = 20;
     private final JobSeekerProfileRepository jobSeekerProfileRepository;
+    private final CandidateSearchIndex candidateSearchIndex;
 
-    public JobSeekerServiceImpl(JobSeekerProfileRepository jobSeekerProfileRepository) {
+    public JobSeekerServiceImpl(JobSeekerProfileRepository jobSeekerProfileRepository,
+                                CandidateSearchIndex candidateSearchIndex) {
         this.jobSeekerProfileRepository = jobSeekerProfileRepository;
+        this.candidateSearchIndex = candidateSearchIndex;
     }
 
     /**
-     * Gets all job seeker profiles
+     * Gets one page of job seekers matching the optional filters, newest first.
+     * The created range is inclusive of both dates.
      */
     @Override
-    public List<JobSeekerProfile> getAllJobSeekers() {
-        logger.info("Fetching all job seekers");
-        
-        List<JobSeekerProfile> jobSeekers = jobSeekerProfileRepository.findAll();
-        
-        logger.info("Returning {} job seekers", jobSeekers.size());
+    @Transactional(readOnly = true)
+    public Page<JobSeekerDto> getJobSeekers(String status, String gender, String skill,
+                                            LocalDate createdFrom, LocalDate createdTo, Integer page, Integer size) {
+        logger.info("Fetching job seekers with filters");
+
+        if (createdFrom != null && createdTo != null && createdFrom.isAfter(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+
+        // Only the listed columns of the requested page are read; the long profile texts stay in the database
+        Page<JobSeekerDto> jobSeekers = jobSeekerProfileRepository.findListing(
+                parseEnum(JobSeekerProfile.ExperienceStatus.class, status, "status"),
+                parseEnum(JobSeekerProfile.Gender.class, gender, "gender"),
+                StringUtils.hasText(skill) ? "%" + skill.trim().toLowerCase(Locale.ROOT) + "%" : null,
+                createdFrom != null ? createdFrom.atStartOfDay() : null,
+                createdTo != null ? createdTo.plusDays(1).atStartOfDay() : null,
+                PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))));
+
+        logger.info("Returning {} of {} matching job seekers", jobSeekers.getNumberOfElements(), jobSeekers.getTotalElements());
         return jobSeekers;
     }
+
+    /**
+     * Searches candidates with a boolean query and facet filters, best match first,
+     * returning one page of listing rows together with the facet counts
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CandidateSearchResultDto searchCandidates(String query, List<String> skills, List<String> qualifications,
+                                                     List<String> statuses, Integer minYearOfPassing,
+                                                     Integer maxYearOfPassing, Integer page, Integer size) {
+        if (!candidateSearchIndex.isReady()) {
+            throw new IllegalStateException("Candidate search index is not built yet");
+        }
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        if (pageNumber > MAX_SEARCH_PAGE) {
+            throw new IllegalArgumentException("page must not be greater than " + MAX_SEARCH_PAGE);
+        }
+
+        List<JobSeekerProfile.ExperienceStatus> statusFilter = new ArrayList<>();
+        if (statuses != null) {
+            for (String status : statuses) {
+                statusFilter.add(parseEnum(JobSeekerProfile.ExperienceStatus.class, status, "status"));
+            }
+            statusFilter.removeIf(Objects::isNull);
+        }
+        CandidateSearchIndex.Result result = candidateSearchIndex.search(query,
+                new CandidateSearchIndex.Filters(skills, qualifications, statusFilter, minYearOfPassing, maxYearOfPassing),
+                pageNumber, pageSize, FACET_LIMIT);
+
+        // One statement for the page's rows, then put them back in rank order
+        Map<Long, JobSeekerDto> rows = result.profileIds().isEmpty() ? Map.of()
+                : jobSeekerProfileRepository.findListingByIds(result.profileIds()).stream()
+                        .collect(Collectors.toMap(JobSeekerDto::getId, Function.identity()));
+        List<JobSeekerDto> candidates = result.profileIds().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        logger.info("Candidate search returned {} of {} matches", candidates.size(), result.total());
+        return new CandidateSearchResultDto(candidates, result.total(), pageNumber, pageSize, result.facets());
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.careerportal.career_portal_backend.service.impl;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.execption.AccessDeniedException;
+import com.careerportal.career_portal_backend.execption.ResourceNotFoundException;
+import com.careerportal.career_portal_backend.payload.CandidateMatchDto;
+import com.careerportal.career_portal_backend.payload.JobMatchDto;
+import com.careerportal.career_portal_backend.payload.JobPostingDto;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.search.SkillMatchIndex;
+import com.careerportal.career_portal_backend.security.CurrentUserContext;
+import com.careerportal.career_portal_backend.service.JobPostingService;
+import com.careerportal.career_portal_backend.service.MatchingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class MatchingServiceImpl implements MatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchingServiceImpl.class);
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final SkillMatchIndex skillMatchIndex;
+    private final JobPostingRepository jobPostingRepository;
+    private final JobSeekerProfileRepository profileRepository;
+    private final JobPostingService jobPostingService;
+    private final CurrentUserContext currentUserContext;
+
+    public MatchingServiceImpl(SkillMatchIndex skillMatchIndex,
+                               JobPostingRepository jobPostingRepository,
+                               JobSeekerProfileRepository profileRepository,
+                               JobPostingService jobPostingService,
+                               CurrentUserContext currentUserContext) {
+        this.skillMatchIndex = skillMatchIndex;
+        this.jobPostingRepository = jobPostingRepository;
+        this.profileRepository = profileRepository;
+        this.jobPostingService = jobPostingService;
+        this.currentUserContext = currentUserContext;
+    }
+
+    /** Best matching candidates for one of the employer's own job postings */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CandidateMatchDto> matchCandidatesForJob(Long jobId, String username, Integer limit) {
+        Long employerId = currentUserContext.requireEmployerId(username);
+        JobPosting job = jobPostingRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job posting"));
+        if (!job.getEmployer().getId().equals(employerId)) {
+            throw new AccessDeniedException("You can only view matches for your own job postings");
+        }
+        requireReady();
+
+        List<SkillMatchIndex.Match> matches = skillMatchIndex.topCandidatesForJob(jobId, clamp(limit));
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobSeekerDto> rows = profileRepository.findListingByIds(ids(matches)).stream()
+                .collect(Collectors.toMap(JobSeekerDto::getId, Function.identity()));
+
+        List<CandidateMatchDto> result = new ArrayList<>(matches.size());
+        for (SkillMatchIndex.Match match : matches) {
+            JobSeekerDto candidate = rows.get(match.id());
+            if (candidate != null) {
+                result.add(new CandidateMatchDto(candidate, match.score(), match.matchedSkills()));
+            }
+        }
+        logger.info("Matched {} candidates for job {}", result.size(), jobId);
+        return result;
+    }
+
+    /** Best matching open job postings for the logged-in job seeker */
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobMatchDto> matchJobsForJobSeeker(String username, Integer limit) {
+        Long profileId = currentUserContext.requireJobSeekerProfileId(username);
+        requireReady();
+
+        List<SkillMatchIndex.Match> matches = skillMatchIndex.topJobsForProfile(profileId, clamp(limit));
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobPostingDto> jobs = jobPostingService.getJobPostingsByIds(ids(matches)).stream()
+                .collect(Collectors.toMap(JobPostingDto::getId, Function.identity()));
+
+        List<JobMatchDto> result = new ArrayList<>(matches.size());
+        for (SkillMatchIndex.Match match : matches) {
+            JobPostingDto job = jobs.get(match.id());
+            if (job != null) {
+                result.add(new JobMatchDto(job, match.score(), match.matchedSkills()));
+            }
+        }
+        logger.info("Matched {} jobs for job seeker profile {}", result.size(), profileId);
+        return result;
+    }
+
+    private void requireReady() {
+        if (!skillMatchIndex.isReady()) {
+            throw new IllegalStateException("Skill match index is not built yet");
+        }
+    }
+
+    private static int clamp(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+
+    private static List<Long> ids(List<SkillMatchIndex.Match> matches) {
+        return matches.stream().map(SkillMatchIndex.Match::id).collect(Collectors.toList());
+    }
+}
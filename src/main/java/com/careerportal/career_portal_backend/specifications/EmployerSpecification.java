@@ -0,0 +1,43 @@
+package com.careerportal.career_portal_backend.specifications;
+
+import com.careerportal.career_portal_backend.entity.Employer;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+public class EmployerSpecification {
+
+    public static Specification<Employer> filterEmployers(String companyName, String industry, Integer foundedAfter) {
+        return (Root<Employer> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) -> {
+
+            Predicate predicate = criteriaBuilder.conjunction(); // Start with a True predicate (AND logic)
+
+            // 1. Company name contains (case-insensitive)
+            if (StringUtils.hasText(companyName)) {
+                predicate = criteriaBuilder.and(predicate,
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("companyName")), likeLower(companyName)));
+            }
+
+            // 2. Industry contains (case-insensitive)
+            if (StringUtils.hasText(industry)) {
+                predicate = criteriaBuilder.and(predicate,
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("industry")), likeLower(industry)));
+            }
+
+            // 3. Founded in or after the given year (employers without a year are excluded)
+            if (foundedAfter != null) {
+                predicate = criteriaBuilder.and(predicate,
+                        criteriaBuilder.greaterThanOrEqualTo(root.get("founded"), foundedAfter));
+            }
+
+            return predicate;
+        };
+    }
+
+    private static String likeLower(String value) {
+        return "%" + value.trim().toLowerCase() + "%";
+    }
+}
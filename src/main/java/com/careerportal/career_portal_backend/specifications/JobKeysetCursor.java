@@ -0,0 +1,120 @@
+package com.careerportal.career_portal_backend.specifications;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Opaque continuation token for keyset (seek) pagination of job postings.
+ * It remembers the sort key of the last row of a page, so the next page is a
+ * "WHERE (key) > (last key)" range read on an index instead of an OFFSET scan.
+ * <p>
+ * datePosted is nullable. The cursor follows the MySQL/H2 ordering, where NULL sorts below every
+ * value, so NEWEST lists undated jobs last (by id); a cursor positioned on one of them is encoded
+ * without a value part.
+ */
+public class JobKeysetCursor {
+
+    public enum SortOrder {
+        NEWEST(Sort.by(Sort.Order.desc("datePosted"), Sort.Order.desc("id"))),
+        TITLE(Sort.by(Sort.Order.asc("jobTitle"), Sort.Order.asc("id")));
+
+        private final Sort sort;
+
+        SortOrder(Sort sort) {
+            this.sort = sort;
+        }
+
+        public Sort getSort() {
+            return sort;
+        }
+
+        public static SortOrder fromParam(String value) {
+            if (value == null || value.isBlank()) {
+                return NEWEST;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported sort: " + value);
+            }
+        }
+    }
+
+    private final SortOrder sortOrder;
+    private final Long lastId;
+    private final String lastValue; // datePosted (ISO, null when undated) for NEWEST, jobTitle for TITLE
+
+    private JobKeysetCursor(SortOrder sortOrder, Long lastId, String lastValue) {
+        this.sortOrder = sortOrder;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static JobKeysetCursor after(JobPosting job, SortOrder sortOrder) {
+        String value = sortOrder == SortOrder.NEWEST
+                ? (job.getDatePosted() == null ? null : job.getDatePosted().toString())
+                : job.getJobTitle();
+        return new JobKeysetCursor(sortOrder, job.getId(), value);
+    }
+
+    public static JobKeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            SortOrder sortOrder = SortOrder.valueOf(parts[0]);
+            // No value part marks a NULL sort key
+            String value = parts.length == 3 ? parts[2] : null;
+            if (value == null && sortOrder != SortOrder.NEWEST) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            JobKeysetCursor cursor = new JobKeysetCursor(sortOrder, Long.valueOf(parts[1]), value);
+            if (cursor.lastValue != null && sortOrder == SortOrder.NEWEST) {
+                LocalDate.parse(cursor.lastValue);
+            }
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortOrder.name() + "|" + lastId + (lastValue == null ? "" : "|" + lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    // Rows strictly after the cursor position in the cursor's sort order
+    public Specification<JobPosting> toSpecification() {
+        return (root, query, criteriaBuilder) -> {
+            if (sortOrder == SortOrder.NEWEST) {
+                // Undated jobs come after every dated one
+                if (lastValue == null) {
+                    return criteriaBuilder.and(
+                            criteriaBuilder.isNull(root.get("datePosted")),
+                            criteriaBuilder.lessThan(root.get("id"), lastId));
+                }
+                LocalDate lastDate = LocalDate.parse(lastValue);
+                return criteriaBuilder.or(
+                        criteriaBuilder.lessThan(root.get("datePosted"), lastDate),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("datePosted"), lastDate),
+                                criteriaBuilder.lessThan(root.get("id"), lastId)),
+                        criteriaBuilder.isNull(root.get("datePosted")));
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(root.get("jobTitle"), lastValue),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("jobTitle"), lastValue),
+                            criteriaBuilder.greaterThan(root.get("id"), lastId)));
+        };
+    }
+}
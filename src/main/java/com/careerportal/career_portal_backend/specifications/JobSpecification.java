@@ -8,6 +8,8 @@ import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+
 public class JobSpecification {
 
     public static Specification<JobPosting> filterJobs(String keyword, String location, String experienceLevel) {
@@ -47,4 +49,9 @@ public class JobSpecification {
             return predicate;
         };
     }
+
+    // Restricts the result to the given ids (e.g. the matches returned by the in-memory search index)
+    public static Specification<JobPosting> hasIdIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
 }
\ No newline at end of file
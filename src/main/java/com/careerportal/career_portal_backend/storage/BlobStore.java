@@ -0,0 +1,33 @@
+package com.careerportal.career_portal_backend.storage;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Backend that holds the bytes of an uploaded file. {@link DBFile} keeps only the metadata and
+ * records which backend (and where in it) the content lives.
+ */
+public interface BlobStore {
+
+    /** Name recorded in {@link DBFile#getStorageBackend()} and used for app.storage.backend */
+    String getName();
+
+    /** Store the content of the file, recording its size, SHA-256 and location on the metadata row */
+    void write(DBFile file, InputStream content) throws IOException;
+
+    Resource read(DBFile file) throws IOException;
+
+    /** Whether the content recorded on the row is present in this store */
+    boolean exists(DBFile file);
+
+    /**
+     * Like {@link #exists}, for content about to be shared by a new row: also marks it as in use,
+     * so a store that removes unreferenced content in the background keeps it
+     */
+    default boolean retain(DBFile file) throws IOException {
+        return exists(file);
+    }
+}
@@ -0,0 +1,28 @@
+package com.careerportal.career_portal_backend.storage;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/** SHA-256 helpers for content-addressed storage */
+public final class ContentHashes {
+
+    private ContentHashes() {
+    }
+
+    public static String sha256Hex(byte[] data) {
+        return toHex(newSha256().digest(data));
+    }
+
+    public static String toHex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.careerportal.career_portal_backend.storage;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.repository.DBFileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * One-off migration moving file content out of the db_files.data LONGBLOB column into the
+ * filesystem store. Enable it for a single start-up with
+ * {@code --app.storage.migrate-db-blobs=true}; each file is moved in its own transaction,
+ * so the run can be interrupted and repeated safely.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.migrate-db-blobs", havingValue = "true")
+public class DatabaseBlobMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseBlobMigration.class);
+
+    private final DBFileRepository dbFileRepository;
+    private final FileSystemBlobStore fileSystemBlobStore;
+    private final GzipCodec gzipCodec;
+    private final TransactionTemplate transactionTemplate;
+
+    public DatabaseBlobMigration(DBFileRepository dbFileRepository,
+                                 FileSystemBlobStore fileSystemBlobStore,
+                                 GzipCodec gzipCodec,
+                                 PlatformTransactionManager transactionManager) {
+        this.dbFileRepository = dbFileRepository;
+        this.fileSystemBlobStore = fileSystemBlobStore;
+        this.gzipCodec = gzipCodec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Only ids are loaded up front; each blob is read on its own so memory stays at one file
+        List<String> fileIds = dbFileRepository.findIdsStoredInDatabase();
+        logger.info("Migrating {} file(s) from the database to the filesystem store", fileIds.size());
+
+        int migrated = 0;
+        int failed = 0;
+        for (String fileId : fileIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> migrate(fileId));
+                migrated++;
+            } catch (RuntimeException ex) {
+                failed++;
+                logger.error("Could not migrate file {}", fileId, ex);
+            }
+        }
+        logger.info("File migration finished: {} migrated, {} failed", migrated, failed);
+    }
+
+    private void migrate(String fileId) {
+        DBFile dbFile = dbFileRepository.findById(fileId)
+                .orElseThrow(() -> new RuntimeException("File not found with id " + fileId));
+        // The filesystem store hashes, sizes and (re)compresses what it is given, so it gets the original content
+        InputStream stored = new ByteArrayInputStream(dbFile.getData());
+        try (InputStream content = GzipCodec.ENCODING.equals(dbFile.getContentEncoding())
+                ? gzipCodec.decode(stored) : stored) {
+            fileSystemBlobStore.write(dbFile, content);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not write blob for file " + fileId, ex);
+        }
+        dbFile.setStorageBackend(FileSystemBlobStore.NAME);
+        dbFile.setData(null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.careerportal.career_portal_backend.storage;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Legacy backend keeping the content in the db_files.data column. Rows uploaded before the
+ * filesystem store existed have no backend recorded and are read through this store.
+ */
+@Component
+public class DatabaseBlobStore implements BlobStore {
+
+    public static final String NAME = "database";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final GzipCodec gzipCodec;
+
+    public DatabaseBlobStore(DataSource dataSource, GzipCodec gzipCodec) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.gzipCodec = gzipCodec;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void write(DBFile file, InputStream content) throws IOException {
+        // The column is bound as a byte[] (and MySQL sends it as one packet), so this backend
+        // has to buffer the whole file; the filesystem backend streams
+        byte[] data = content.readAllBytes();
+        file.setFileSize((long) data.length);
+        file.setContentHash(ContentHashes.sha256Hex(data));
+
+        byte[] compressed = gzipCodec.appliesTo(file.getFileType()) ? gzipCodec.compress(data) : null;
+        file.setData(compressed != null ? compressed : data);
+        file.setContentEncoding(compressed != null ? GzipCodec.ENCODING : null);
+        file.setStorageLocation(null);
+    }
+
+    @Override
+    public Resource read(DBFile file) throws FileNotFoundException {
+        // The stored length differs from the file size for compressed rows, and rows from before sizes
+        // were recorded have none: let the database measure the blob instead of reading it
+        Long size = file.getFileSize() != null && file.getContentEncoding() == null ? file.getFileSize()
+                : jdbcTemplate.queryForObject("select length(data) from db_files where id = ?", Long.class, file.getId());
+        if (size == null) {
+            throw new FileNotFoundException("No content stored for file " + file.getId());
+        }
+        return new JdbcBlobResource(dataSource, file.getId(), file.getFileName(), size);
+    }
+
+    @Override
+    public boolean exists(DBFile file) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "select count(*) from db_files where id = ? and data is not null", Integer.class, file.getId());
+        return rows != null && rows > 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.careerportal.career_portal_backend.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/** Stored (encoded) content exposed as the original bytes, decompressed while streaming */
+public class DecodedResource extends AbstractResource {
+
+    private final Resource encoded;
+    private final GzipCodec codec;
+    private final long contentLength;
+
+    public DecodedResource(Resource encoded, GzipCodec codec, long contentLength) {
+        this.encoded = encoded;
+        this.codec = codec;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return codec.decode(encoded.getInputStream());
+    }
+
+    @Override
+    public boolean exists() {
+        return encoded.exists();
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getFilename() {
+        return encoded.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return "decoded " + encoded.getDescription();
+    }
+}
@@ -0,0 +1,124 @@
+package com.careerportal.career_portal_backend.storage;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Produces the small PNGs served instead of the originals in list views. Uploads are untrusted, so
+ * image dimensions are checked from the header before decoding and PDF pages are rendered at a
+ * bounded resolution; a few bytes of input cannot ask for gigabytes of pixels.
+ */
+@Component
+public class DerivativeRenderer {
+
+    // Keeps tiny PDF pages (a 1pt wide crop box) from being rendered at thousands of DPI
+    static final float MAX_PREVIEW_DPI = 300f;
+    // Preview pixel budget as a multiple of previewWidth squared; an A4 page needs about 1.4
+    static final int MAX_PREVIEW_ASPECT = 2;
+
+    private final int thumbnailSize;
+    private final int previewWidth;
+    private final long maxImagePixels;
+
+    public DerivativeRenderer(@Value("${app.derivatives.thumbnail-size:200}") int thumbnailSize,
+                              @Value("${app.derivatives.preview-width:600}") int previewWidth,
+                              @Value("${app.derivatives.max-image-pixels:40000000}") long maxImagePixels) {
+        this.thumbnailSize = thumbnailSize;
+        this.previewWidth = previewWidth;
+        this.maxImagePixels = maxImagePixels;
+    }
+
+    /** Photo scaled down to fit a thumbnailSize square, keeping its aspect ratio */
+    public byte[] thumbnail(Resource photo) throws IOException {
+        BufferedImage original;
+        try (InputStream in = photo.getInputStream();
+             ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream == null ? null : ImageIO.getImageReaders(stream);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxImagePixels) {
+                    throw new IOException("Image is " + width + "x" + height + " pixels, more than the "
+                            + maxImagePixels + " allowed");
+                }
+                // Skip pixels while decoding when the photo is far larger than the thumbnail
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (thumbnailSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                original = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+        double scale = Math.min(1.0, (double) thumbnailSize / Math.max(original.getWidth(), original.getHeight()));
+        return toPng(scale(original, scale));
+    }
+
+    /** First page of a PDF rendered previewWidth pixels wide, or smaller for odd page shapes */
+    public byte[] pdfPreview(Resource pdf) throws IOException {
+        // Filesystem blobs are opened in place; other resources have to be buffered for random access
+        try (PDDocument document = pdf.isFile()
+                ? Loader.loadPDF(pdf.getFile())
+                : Loader.loadPDF(new RandomAccessReadBuffer(pdf.getInputStream()))) {
+            if (document.getNumberOfPages() == 0) {
+                throw new IOException("PDF has no pages");
+            }
+            PDRectangle page = document.getPage(0).getCropBox();
+            float widthInches = page.getWidth() / 72f;
+            float heightInches = page.getHeight() / 72f;
+            if (!(widthInches > 0 && heightInches > 0)) {
+                throw new IOException("PDF page has no area");
+            }
+            float dpi = Math.min(previewWidth / widthInches, MAX_PREVIEW_DPI);
+            // A very tall page would still be huge at that scale, so also cap the pixel count
+            double maxPixels = (double) previewWidth * previewWidth * MAX_PREVIEW_ASPECT;
+            dpi = (float) Math.min(dpi, Math.sqrt(maxPixels / (widthInches * heightInches)));
+            return toPng(new PDFRenderer(document).renderImageWithDPI(0, dpi, ImageType.RGB));
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage original, double scale) {
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,5 @@
+package com.careerportal.career_portal_backend.storage;
+
+/** Published after a stored file has been deleted */
+public record FileDeletedEvent(String fileId) {
+}
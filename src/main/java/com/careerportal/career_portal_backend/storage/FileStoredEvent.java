@@ -0,0 +1,5 @@
+package com.careerportal.career_portal_backend.storage;
+
+/** Published after an uploaded file has been stored */
+public record FileStoredEvent(String fileId, String fileType) {
+}
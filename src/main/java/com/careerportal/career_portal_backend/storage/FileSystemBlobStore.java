@@ -0,0 +1,220 @@
+package com.careerportal.career_portal_backend.storage;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.function.Predicate;
+
+/**
+ * Content-addressed store on the local filesystem. A blob lives at {@code ab/cd/<sha256>} under
+ * app.storage.root ({@code .gz} appended when stored compressed), so identical uploads map to the
+ * same file and a written blob never changes.
+ * <p>
+ * Blobs are shared by every row with the same content, so deleting a row never deletes its blob.
+ * {@link #removeUnreferenced} removes blobs later, once no row points at them and they have not been
+ * written or reused for a grace period; reusing a blob refreshes its modification time for that reason.
+ */
+@Component
+public class FileSystemBlobStore implements BlobStore {
+
+    public static final String NAME = "filesystem";
+
+    private static final String INCOMING_DIR = "incoming";
+    private static final String REMOVING_DIR = "removing";
+    private static final String COMPRESSED_SUFFIX = ".gz";
+
+    private final Path root;
+    private final GzipCodec gzipCodec;
+
+    public FileSystemBlobStore(@Value("${app.storage.root:./storage/blobs}") String root, GzipCodec gzipCodec) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.gzipCodec = gzipCodec;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void write(DBFile file, InputStream content) throws IOException {
+        // The hash is only known once the content has been read, so stream it into a temp file
+        // under the root while digesting, then rename it into place (readers never see a partial blob)
+        Path incoming = root.resolve(INCOMING_DIR);
+        Files.createDirectories(incoming);
+        Path temp = Files.createTempFile(incoming, "upload", ".tmp");
+        try {
+            MessageDigest sha256 = ContentHashes.newSha256();
+            long size;
+            try (InputStream digesting = new DigestInputStream(content, sha256)) {
+                size = Files.copy(digesting, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = ContentHashes.toHex(sha256.digest());
+            String location = locationOf(hash);
+            String compressedLocation = location + COMPRESSED_SUFFIX;
+
+            // The same content may already be stored, compressed or not; if so, mark it as in use
+            if (touch(resolve(compressedLocation))) {
+                location = compressedLocation;
+            } else if (!touch(resolve(location))) {
+                Files.createDirectories(resolve(location).getParent());
+                if (compressInto(file, temp, resolve(compressedLocation))) {
+                    location = compressedLocation;
+                } else {
+                    Files.move(temp, resolve(location), StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            file.setFileSize(size);
+            file.setContentHash(hash);
+            file.setStorageLocation(location);
+            file.setContentEncoding(location.endsWith(COMPRESSED_SUFFIX) ? GzipCodec.ENCODING : null);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Keeps a gzip copy instead of the original when the codec says it pays off
+    private boolean compressInto(DBFile file, Path original, Path target) throws IOException {
+        if (!gzipCodec.appliesTo(file.getFileType())) {
+            return false;
+        }
+        Path compressed = original.resolveSibling(original.getFileName() + COMPRESSED_SUFFIX);
+        try {
+            if (!gzipCodec.compress(original, compressed)) {
+                return false;
+            }
+            Files.move(compressed, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(compressed);
+        }
+    }
+
+    @Override
+    public Resource read(DBFile file) throws IOException {
+        Path path = resolve(file.getStorageLocation());
+        if (!Files.isReadable(path)) {
+            throw new FileNotFoundException("Blob missing for file " + file.getId() + ": " + path);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public boolean exists(DBFile file) {
+        return file.getStorageLocation() != null && Files.exists(resolve(file.getStorageLocation()));
+    }
+
+    @Override
+    public boolean retain(DBFile file) throws IOException {
+        return file.getStorageLocation() != null && touch(resolve(file.getStorageLocation()));
+    }
+
+    /**
+     * Deletes the blobs no row references that were last written or reused before the cutoff, and returns
+     * how many were deleted. Each candidate is first moved aside, which makes it unavailable for reuse,
+     * and then checked again: an upload that reused it before the move shows up as a newer modification
+     * time or a reference, and the blob is put back; an upload after the move finds it missing and writes
+     * the content again.
+     */
+    public int removeUnreferenced(Instant cutoff, Predicate<String> isReferenced) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        Path removing = root.resolve(REMOVING_DIR);
+        Files.createDirectories(removing);
+        int[] removed = {0};
+
+        // Blobs left aside by an interrupted run get their final check first
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(removing)) {
+            for (Path aside : leftovers) {
+                if (finishRemoval(aside, locationOf(aside.getFileName().toString()), cutoff, isReferenced)) {
+                    removed[0]++;
+                }
+            }
+        }
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                return dir.equals(removing) || dir.equals(root.resolve(INCOMING_DIR))
+                        ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path blob, BasicFileAttributes attributes) throws IOException {
+                String location = root.relativize(blob).toString().replace(File.separatorChar, '/');
+                if (!attributes.lastModifiedTime().toInstant().isBefore(cutoff) || isReferenced.test(location)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                Path aside = removing.resolve(blob.getFileName());
+                try {
+                    Files.move(blob, aside, StandardCopyOption.ATOMIC_MOVE);
+                } catch (NoSuchFileException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (finishRemoval(aside, location, cutoff, isReferenced)) {
+                    removed[0]++;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return removed[0];
+    }
+
+    // Deletes a blob that was moved aside, or puts it back if it was reused or referenced in the meantime
+    private boolean finishRemoval(Path aside, String location, Instant cutoff, Predicate<String> isReferenced)
+            throws IOException {
+        if (Files.getLastModifiedTime(aside).toInstant().isBefore(cutoff) && !isReferenced.test(location)) {
+            Files.delete(aside);
+            return true;
+        }
+        Path target = resolve(location);
+        Files.createDirectories(target.getParent());
+        // An upload may have written the same content again meanwhile; either copy will do
+        Files.move(aside, target, StandardCopyOption.ATOMIC_MOVE);
+        return false;
+    }
+
+    // Refreshes the modification time of an existing blob; false if there is no such blob
+    private static boolean touch(Path blob) throws IOException {
+        try {
+            Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // ab/cd/<name> for a blob file name, which starts with the content hash
+    private static String locationOf(String name) {
+        return name.substring(0, 2) + "/" + name.substring(2, 4) + "/" + name;
+    }
+
+    private Path resolve(String location) {
+        Path path = root.resolve(location).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage location " + location);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,79 @@
+package com.careerportal.career_portal_backend.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Optional gzip encoding of stored content. Content is only kept compressed when that saves at
+ * least app.storage.compression.min-savings of its size; images (already compressed) are skipped.
+ * The encoding is recorded in {@link com.careerportal.career_portal_backend.entity.DBFile#getContentEncoding()}.
+ */
+@Component
+public class GzipCodec {
+
+    public static final String ENCODING = "gzip";
+
+    private final boolean enabled;
+    private final int level;
+    private final double minSavings;
+
+    public GzipCodec(@Value("${app.storage.compression.enabled:true}") boolean enabled,
+                     @Value("${app.storage.compression.level:6}") int level,
+                     @Value("${app.storage.compression.min-savings:0.1}") double minSavings) {
+        this.enabled = enabled;
+        this.level = level;
+        this.minSavings = minSavings;
+    }
+
+    public boolean appliesTo(String fileType) {
+        return enabled && (fileType == null || !fileType.startsWith("image/"));
+    }
+
+    /** Compresses source into target; false (target removed) if the saving is not worth keeping */
+    public boolean compress(Path source, Path target) throws IOException {
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new LeveledGzipOutputStream(Files.newOutputStream(target), level)) {
+            in.transferTo(out);
+        }
+        if (paysOff(Files.size(source), Files.size(target))) {
+            return true;
+        }
+        Files.deleteIfExists(target);
+        return false;
+    }
+
+    /** Compressed copy of the data, or null if the saving is not worth keeping */
+    public byte[] compress(byte[] data) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (OutputStream out = new LeveledGzipOutputStream(buffer, level)) {
+            out.write(data);
+        }
+        return paysOff(data.length, buffer.size()) ? buffer.toByteArray() : null;
+    }
+
+    public InputStream decode(InputStream encoded) throws IOException {
+        return new GZIPInputStream(encoded, 8192);
+    }
+
+    private boolean paysOff(long originalSize, long compressedSize) {
+        return compressedSize <= originalSize * (1 - minSavings);
+    }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        private LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level < 0 ? Deflater.DEFAULT_COMPRESSION : level);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.careerportal.career_portal_backend.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import javax.sql.DataSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Resource over the db_files.data column that streams the blob from the JDBC driver instead of
+ * materialising it. Each {@link #getInputStream()} borrows its own connection and returns it when
+ * the stream is closed, so the download does not depend on the request's persistence context.
+ * Skipping before the first read seeks in the database, which keeps range requests cheap.
+ */
+class JdbcBlobResource extends AbstractResource {
+
+    // substring() is 1-based and lets the database start the blob at the requested offset
+    private static final String SELECT_DATA_FROM = "select substring(data, ?) from db_files where id = ?";
+
+    private final DataSource dataSource;
+    private final String fileId;
+    private final String fileName;
+    private final long contentLength;
+
+    JdbcBlobResource(DataSource dataSource, String fileId, String fileName, long contentLength) {
+        this.dataSource = dataSource;
+        this.fileId = fileId;
+        this.fileName = fileName;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new JdbcBlobInputStream();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getFilename() {
+        return fileName;
+    }
+
+    @Override
+    public String getDescription() {
+        return "db_files blob [" + fileId + "]";
+    }
+
+    private static void closeQuietly(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        for (AutoCloseable closeable : new AutoCloseable[]{resultSet, statement, connection}) {
+            if (closeable != null) {
+                try {
+                    closeable.close();
+                } catch (Exception ignored) {
+                    // Nothing useful to do; the connection pool discards broken connections
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the query on first read. Skips before that only move the start offset, so a range
+     * request selects the blob from that byte onwards instead of reading through the prefix.
+     */
+    private final class JdbcBlobInputStream extends InputStream {
+
+        private long offset;
+        private Connection connection;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private InputStream data;
+        private boolean closed;
+
+        @Override
+        public int read() throws IOException {
+            return open().read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            return open().read(buffer, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (data != null) {
+                return data.skip(n);
+            }
+            long skipped = Math.max(0, Math.min(n, contentLength - offset));
+            offset += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            closeQuietly(connection, statement, resultSet);
+        }
+
+        private InputStream open() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (data != null) {
+                return data;
+            }
+            try {
+                connection = dataSource.getConnection();
+                statement = connection.prepareStatement(SELECT_DATA_FROM, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // MySQL streams the row from the socket instead of buffering the whole result set
+                // (other drivers reject this fetch size)
+                if ("MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                }
+                statement.setLong(1, offset + 1);
+                statement.setString(2, fileId);
+                resultSet = statement.executeQuery();
+
+                data = resultSet.next() ? resultSet.getBinaryStream(1) : null;
+                if (data == null) {
+                    throw new FileNotFoundException("No content stored for file " + fileId);
+                }
+                return data;
+            } catch (SQLException | IOException ex) {
+                close();
+                throw ex instanceof IOException io ? io : new IOException("Could not read content of file " + fileId, ex);
+            }
+        }
+    }
+}
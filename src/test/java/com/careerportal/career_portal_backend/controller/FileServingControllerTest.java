@@ -0,0 +1,161 @@
+package com.careerportal.career_portal_backend.controller;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.service.DerivativeService;
+import com.careerportal.career_portal_backend.service.FileStorageService;
+import com.careerportal.career_portal_backend.storage.DatabaseBlobStore;
+import com.careerportal.career_portal_backend.storage.GzipCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Downloads of a resume kept in db_files.data, so ranges go through JdbcBlobResource against H2,
+ * and the conditional requests answered from the file's metadata.
+ */
+class FileServingControllerTest {
+
+    private static final String FILE_ID = "3f2b6c1e-resume";
+    private static final LocalDateTime UPLOADED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final byte[] CONTENT = new byte[100];
+
+    static {
+        for (int i = 0; i < CONTENT.length; i++) {
+            CONTENT[i] = (byte) i;
+        }
+    }
+
+    private EmbeddedDatabase database;
+    private FileStorageService fileStorageService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table db_files (id varchar(36) primary key, data blob)");
+        jdbcTemplate.update("insert into db_files (id, data) values (?, ?)", FILE_ID, CONTENT);
+
+        DatabaseBlobStore blobStore = new DatabaseBlobStore(database, new GzipCodec(true, 6, 0.1));
+        DBFile file = new DBFile(FILE_ID, "resume.pdf", "application/pdf", (long) CONTENT.length, HASH,
+                DatabaseBlobStore.NAME, null, null, UPLOADED_AT);
+        fileStorageService = mock(FileStorageService.class);
+        when(fileStorageService.getFile(FILE_ID)).thenReturn(file);
+        when(fileStorageService.loadFileAsResource(any(DBFile.class))).thenAnswer(call -> blobStore.read(call.getArgument(0)));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new FileServingController(fileStorageService, mock(DerivativeService.class))).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void downloadCarriesTheContentHashAsETagAndIsPrivatelyCacheable() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredWithNotModified() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID).header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+                .andExpect(content().bytes(new byte[0]));
+
+        // Answered from the metadata: the content is never opened
+        verify(fileStorageService, never()).loadFileAsResource(any(DBFile.class));
+    }
+
+    @Test
+    void otherIfNoneMatchGetsTheFile() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID).header(HttpHeaders.IF_NONE_MATCH, "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void singleRangeIsServedFromTheOffset() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 10, 20)));
+    }
+
+    @Test
+    void suffixRangeReturnsTheLastBytes() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 95-99/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 95, 100)));
+    }
+
+    @Test
+    void unsatisfiableRangeIsRejectedWithoutABody() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID).header(HttpHeaders.RANGE, "bytes=200-300"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void ifRangeWithTheCurrentETagServesTheRange() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID)
+                        .header(HttpHeaders.RANGE, "bytes=0-9")
+                        .header(HttpHeaders.IF_RANGE, "\"" + HASH + "\""))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 0, 10)));
+    }
+
+    @Test
+    void ifRangeWithTheLastModifiedDateServesTheRange() throws Exception {
+        String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                UPLOADED_AT.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID)
+                        .header(HttpHeaders.RANGE, "bytes=90-")
+                        .header(HttpHeaders.IF_RANGE, lastModified))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 90, 100)));
+    }
+
+    @Test
+    void ifRangeWithAnOutdatedETagServesTheWholeFile() throws Exception {
+        mockMvc.perform(get("/uploads/resumes/{id}", FILE_ID)
+                        .header(HttpHeaders.RANGE, "bytes=0-9")
+                        .header(HttpHeaders.IF_RANGE, "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(content().bytes(CONTENT));
+    }
+}
@@ -0,0 +1,128 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.Application;
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.payload.ApplicationResponseDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ApplicationRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private Statistics statistics;
+    private JobPosting job;
+    private JobSeekerProfile firstSeeker;
+
+    @BeforeEach
+    void setUp() {
+        Employer employer = new Employer();
+        employer.setUser(persistUser("acme"));
+        employer.setCompanyName("Acme");
+        employer.setEmail("jobs@acme.test");
+        employer.setIndustry("Technology");
+        entityManager.persist(employer);
+
+        job = new JobPosting();
+        job.setEmployer(employer);
+        job.setJobTitle("Backend Engineer");
+        entityManager.persist(job);
+
+        firstSeeker = persistSeeker("alice");
+        persistApplication(firstSeeker, job, "resume.pdf");
+        persistApplication(persistSeeker("bob"), job, null);
+        persistApplication(persistSeeker("carol"), job, null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void applicationsForJobAreReadWithSingleStatement() {
+        List<ApplicationResponseDto> applications = applicationRepository.findResponsesByJobPostingId(job.getId());
+
+        assertThat(applications).hasSize(3);
+        assertThat(applications).allSatisfy(dto -> {
+            assertThat(dto.getCompanyName()).isEqualTo("Acme");
+            assertThat(dto.getJobTitle()).isEqualTo("Backend Engineer");
+            assertThat(dto.getCandidateName()).isNotBlank();
+        });
+        assertThat(applications).filteredOn(ApplicationResponseDto::getHasResume).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void applicationsForSeekerAreReadWithSingleStatement() {
+        List<ApplicationResponseDto> applications =
+                applicationRepository.findResponsesByJobSeekerProfileId(firstSeeker.getId());
+
+        assertThat(applications).singleElement().satisfies(dto -> {
+            assertThat(dto.getCandidateName()).isEqualTo("alice");
+            assertThat(dto.getResumeFileName()).isEqualTo("resume.pdf");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entityGraphLoadsAssociationsInSameStatement() {
+        List<Application> applications = applicationRepository.findByJobPosting_Id(job.getId());
+
+        applications.forEach(application -> {
+            application.getJobPosting().getEmployer().getCompanyName();
+            application.getJobSeekerProfile().getName();
+        });
+        assertThat(applications).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private User persistUser(String username) {
+        return entityManager.persist(new User(username, username + "@example.test", "secret"));
+    }
+
+    private JobSeekerProfile persistSeeker(String name) {
+        JobSeekerProfile profile = new JobSeekerProfile();
+        profile.setUser(persistUser(name));
+        profile.setName(name);
+        profile.setEmail(name + "@example.test");
+        profile.setMobile("555-0100");
+        profile.setStatus(JobSeekerProfile.ExperienceStatus.FRESHER);
+        profile.setGender(JobSeekerProfile.Gender.OTHER);
+        profile.setDob(LocalDate.of(2000, 1, 1));
+        profile.setEducation("BSc");
+        profile.setSkills("Java, SQL");
+        return entityManager.persist(profile);
+    }
+
+    private void persistApplication(JobSeekerProfile seeker, JobPosting jobPosting, String resumeFileName) {
+        Application application = new Application();
+        application.setJobSeekerProfile(seeker);
+        application.setJobPosting(jobPosting);
+        application.setResumeFileName(resumeFileName);
+        entityManager.persist(application);
+    }
+}
@@ -0,0 +1,55 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class DBFileRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DBFileRepository dbFileRepository;
+
+    private String fileId;
+
+    @BeforeEach
+    void setUp() {
+        DBFile file = new DBFile("resume.pdf", "application/pdf");
+        file.setFileSize(3L);
+        file.setContentHash("abc");
+        file.setStorageBackend("database");
+        file.setData(new byte[]{1, 2, 3});
+        fileId = entityManager.persistAndGetId(file, String.class);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findByIdDoesNotLoadTheContent() {
+        DBFile file = dbFileRepository.findById(fileId).orElseThrow();
+
+        assertThat(file.getFileName()).isEqualTo("resume.pdf");
+        assertThat(Hibernate.isPropertyInitialized(file, "data")).isFalse();
+        assertThat(file.getData()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void findMetadataByIdReturnsMetadataOnly() {
+        DBFile file = dbFileRepository.findMetadataById(fileId).orElseThrow();
+
+        assertThat(file.getFileName()).isEqualTo("resume.pdf");
+        assertThat(file.getFileSize()).isEqualTo(3L);
+        assertThat(file.getContentHash()).isEqualTo("abc");
+        assertThat(file.getData()).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class DerivativeJobRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DerivativeJobRepository derivativeJobRepository;
+
+    @Test
+    void jobIsClaimedOnce() {
+        Long jobId = persistJob(DerivativeJob.Status.PENDING, null);
+
+        assertThat(derivativeJobRepository.claim(jobId, LocalDateTime.now())).isEqualTo(1);
+        assertThat(derivativeJobRepository.claim(jobId, LocalDateTime.now())).isZero();
+
+        DerivativeJob job = reload(jobId);
+        assertThat(job.getStatus()).isEqualTo(DerivativeJob.Status.RUNNING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseUndoesTheClaim() {
+        Long jobId = persistJob(DerivativeJob.Status.PENDING, null);
+        derivativeJobRepository.claim(jobId, LocalDateTime.now());
+
+        assertThat(derivativeJobRepository.release(jobId)).isEqualTo(1);
+
+        DerivativeJob job = reload(jobId);
+        assertThat(job.getStatus()).isEqualTo(DerivativeJob.Status.PENDING);
+        assertThat(job.getAttempts()).isZero();
+    }
+
+    @Test
+    void finishOnlyRecordsAJobStillRunning() {
+        Long running = persistJob(DerivativeJob.Status.PENDING, null);
+        derivativeJobRepository.claim(running, LocalDateTime.now());
+        Long requeued = persistJob(DerivativeJob.Status.PENDING, null);
+
+        assertThat(derivativeJobRepository.finish(running, DerivativeJob.Status.DONE, "thumb-1", null,
+                LocalDateTime.now())).isEqualTo(1);
+        assertThat(derivativeJobRepository.finish(requeued, DerivativeJob.Status.DONE, "thumb-2", null,
+                LocalDateTime.now())).isZero();
+        assertThat(derivativeJobRepository.finish(-1L, DerivativeJob.Status.DONE, "thumb-3", null,
+                LocalDateTime.now())).isZero();
+
+        assertThat(reload(running).getDerivedFileId()).isEqualTo("thumb-1");
+        assertThat(reload(running).getStatus()).isEqualTo(DerivativeJob.Status.DONE);
+        assertThat(reload(requeued).getDerivedFileId()).isNull();
+    }
+
+    @Test
+    void onlyStaleRunningJobsAreRequeued() {
+        LocalDateTime now = LocalDateTime.now();
+        Long stale = persistJob(DerivativeJob.Status.RUNNING, now.minusHours(1));
+        Long live = persistJob(DerivativeJob.Status.RUNNING, now.minusMinutes(1));
+        Long done = persistJob(DerivativeJob.Status.DONE, now.minusHours(1));
+
+        assertThat(derivativeJobRepository.requeueStale(now.minusMinutes(15))).isEqualTo(1);
+
+        assertThat(reload(stale).getStatus()).isEqualTo(DerivativeJob.Status.PENDING);
+        assertThat(reload(live).getStatus()).isEqualTo(DerivativeJob.Status.RUNNING);
+        assertThat(reload(done).getStatus()).isEqualTo(DerivativeJob.Status.DONE);
+    }
+
+    private Long persistJob(DerivativeJob.Status status, LocalDateTime updatedAt) {
+        DerivativeJob job = new DerivativeJob("file-1", DerivativeJob.Kind.THUMBNAIL);
+        job.setStatus(status);
+        job.setUpdatedAt(updatedAt);
+        Long id = entityManager.persistAndGetId(job, Long.class);
+        entityManager.flush();
+        entityManager.clear();
+        return id;
+    }
+
+    private DerivativeJob reload(Long jobId) {
+        entityManager.clear();
+        return derivativeJobRepository.findById(jobId).orElseThrow();
+    }
+}
@@ -0,0 +1,89 @@
+package com.careerportal.career_portal_backend.repository;
+
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.payload.JobSeekerDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class JobSeekerProfileRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    @BeforeEach
+    void setUp() {
+        persistSeeker("alice", JobSeekerProfile.ExperienceStatus.EXPERIENCED, JobSeekerProfile.Gender.FEMALE, "Java, Spring");
+        persistSeeker("bob", JobSeekerProfile.ExperienceStatus.FRESHER, JobSeekerProfile.Gender.MALE, "Python");
+        persistSeeker("carol", JobSeekerProfile.ExperienceStatus.FRESHER, JobSeekerProfile.Gender.FEMALE, "JavaScript");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listingWithoutFiltersPagesEveryProfile() {
+        Page<JobSeekerDto> page = jobSeekerProfileRepository.findListing(null, null, null, null, null,
+                PageRequest.of(0, 2, Sort.by("name")));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(JobSeekerDto::getName).containsExactly("alice", "bob");
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.getSkills()).isNotBlank();
+            assertThat(dto.getEducation()).isNull();
+        });
+    }
+
+    @Test
+    void listingAppliesEveryFilter() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        Page<JobSeekerDto> page = jobSeekerProfileRepository.findListing(
+                JobSeekerProfile.ExperienceStatus.FRESHER, JobSeekerProfile.Gender.FEMALE, "%java%",
+                today, today.plusDays(1), PageRequest.of(0, 20));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).singleElement().satisfies(dto -> {
+            assertThat(dto.getName()).isEqualTo("carol");
+            assertThat(dto.getStatus()).isEqualTo("FRESHER");
+            assertThat(dto.getGender()).isEqualTo("FEMALE");
+        });
+    }
+
+    @Test
+    void createdRangeExcludesProfilesOutsideIt() {
+        LocalDateTime tomorrow = LocalDate.now().plusDays(1).atStartOfDay();
+        Page<JobSeekerDto> page = jobSeekerProfileRepository.findListing(null, null, null,
+                tomorrow, null, PageRequest.of(0, 20));
+
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    private void persistSeeker(String name, JobSeekerProfile.ExperienceStatus status,
+                               JobSeekerProfile.Gender gender, String skills) {
+        JobSeekerProfile profile = new JobSeekerProfile();
+        profile.setUser(entityManager.persist(new User(name, name + "@example.test", "secret")));
+        profile.setName(name);
+        profile.setEmail(name + "@example.test");
+        profile.setMobile("555-0100");
+        profile.setStatus(status);
+        profile.setGender(gender);
+        profile.setDob(LocalDate.of(2000, 1, 1));
+        profile.setEducation("BSc");
+        profile.setSkills(skills);
+        entityManager.persist(profile);
+    }
+}
@@ -0,0 +1,114 @@
+package com.careerportal.career_portal_backend.scheduler;
+
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import com.careerportal.career_portal_backend.repository.DerivativeJobRepository;
+import com.careerportal.career_portal_backend.service.DerivativeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DerivativeJobWorkerTest {
+
+    private static final int CAPACITY = 3;
+
+    private final DerivativeJobRepository repository = mock(DerivativeJobRepository.class);
+    private final DerivativeService service = mock(DerivativeService.class);
+    private DerivativeJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new DerivativeJobWorker(repository, service, 1, CAPACITY - 1, Duration.ofMinutes(15));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void onlyClaimedJobsAreSubmitted() {
+        when(repository.findIdsByStatus(DerivativeJob.Status.PENDING, PageRequest.of(0, CAPACITY)))
+                .thenReturn(List.of(1L, 2L));
+        when(repository.claim(eq(1L), any())).thenReturn(0); // another instance took it
+        when(repository.claim(eq(2L), any())).thenReturn(1);
+
+        worker.poll();
+
+        verify(service, timeout(2000)).process(2L);
+        verify(service, never()).process(1L);
+    }
+
+    @Test
+    void failedJobGivesItsSlotBack() {
+        when(repository.findIdsByStatus(eq(DerivativeJob.Status.PENDING), any())).thenReturn(List.of(1L));
+        when(repository.claim(anyLong(), any())).thenReturn(1);
+        when(service.process(1L)).thenThrow(new IllegalStateException("render crashed"));
+
+        worker.poll();
+        verify(service, timeout(2000)).process(1L);
+
+        awaitFullCapacityPoll();
+    }
+
+    @Test
+    void rejectedJobIsReleasedAndItsSlotReturned() {
+        worker.shutdown();
+        when(repository.findIdsByStatus(eq(DerivativeJob.Status.PENDING), any())).thenReturn(List.of(1L, 2L));
+        when(repository.claim(anyLong(), any())).thenReturn(1);
+
+        worker.poll();
+
+        verify(repository).release(1L);
+        verify(repository, never()).claim(eq(2L), any()); // rest of the batch waits for the next poll
+        verify(service, never()).process(anyLong());
+        worker.poll();
+        verify(repository, times(2))
+                .findIdsByStatus(DerivativeJob.Status.PENDING, PageRequest.of(0, CAPACITY));
+    }
+
+    @Test
+    void onlyStaleRunningJobsAreRequeued() {
+        worker.requeueInterrupted();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).requeueStale(cutoff.capture());
+        assertThat(cutoff.getValue()).isCloseTo(LocalDateTime.now().minusMinutes(15), within(5, ChronoUnit.SECONDS));
+    }
+
+    // A later poll asks for a full page again once the failed job's slot is free
+    private void awaitFullCapacityPoll() {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (true) {
+            worker.poll();
+            try {
+                verify(repository, atLeast(2))
+                        .findIdsByStatus(DerivativeJob.Status.PENDING, PageRequest.of(0, CAPACITY));
+                return;
+            } catch (AssertionError notYet) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw notYet;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.careerportal.career_portal_backend.scheduler;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.repository.ApplicationRepository;
+import com.careerportal.career_portal_backend.repository.DBFileRepository;
+import com.careerportal.career_portal_backend.repository.DerivativeJobRepository;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import com.careerportal.career_portal_backend.service.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class OrphanedFileCollectorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DBFileRepository dbFileRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    @Autowired
+    private DerivativeJobRepository derivativeJobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+
+    private String orphan;
+    private String resume;
+    private String photo;
+    private String thumbnail;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(call -> {
+            dbFileRepository.deleteAllByIdInBatch(call.getArgument(0));
+            return null;
+        }).when(fileStorageService).deleteFiles(anyCollection());
+
+        orphan = persistFile();
+        resume = persistFile();
+        photo = persistFile();
+        thumbnail = persistFile();
+
+        JobSeekerProfile profile = new JobSeekerProfile();
+        profile.setUser(entityManager.persist(new User("alice", "alice@example.test", "secret")));
+        profile.setName("alice");
+        profile.setEmail("alice@example.test");
+        profile.setMobile("555-0100");
+        profile.setStatus(JobSeekerProfile.ExperienceStatus.FRESHER);
+        profile.setGender(JobSeekerProfile.Gender.FEMALE);
+        profile.setDob(LocalDate.of(2000, 1, 1));
+        profile.setEducation("BSc");
+        profile.setSkills("Java");
+        profile.setResumeFilePath("resumes/" + resume);
+        profile.setPhotoFilePath(photo);
+        entityManager.persist(profile);
+
+        DerivativeJob job = new DerivativeJob(photo, DerivativeJob.Kind.THUMBNAIL);
+        job.setStatus(DerivativeJob.Status.DONE);
+        job.setDerivedFileId(thumbnail);
+        entityManager.persist(job);
+        entityManager.flush();
+    }
+
+    @Test
+    void dryRunOnlyReports() {
+        collector(jobSeekerProfileRepository, Duration.ZERO, true).collect();
+
+        verify(fileStorageService, never()).deleteFiles(anyCollection());
+        assertThat(dbFileRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void onlyUnreferencedFilesAreDeleted() {
+        collector(jobSeekerProfileRepository, Duration.ZERO, false).collect();
+
+        assertThat(remainingIds()).containsExactlyInAnyOrder(resume, photo, thumbnail);
+    }
+
+    @Test
+    void filesInsideTheGracePeriodAreKept() {
+        collector(jobSeekerProfileRepository, Duration.ofHours(1), false).collect();
+
+        verify(fileStorageService, never()).deleteFiles(anyCollection());
+    }
+
+    @Test
+    void fileReferencedAfterTheMarkIsKept() {
+        // The mark misses the photo, as if the profile had been saved just after it ran
+        JobSeekerProfileRepository staleMark = mock(JobSeekerProfileRepository.class, delegatesTo(jobSeekerProfileRepository));
+        when(staleMark.findAllPhotoFilePaths()).thenReturn(List.of());
+
+        collector(staleMark, Duration.ZERO, false).collect();
+
+        assertThat(remainingIds()).containsExactlyInAnyOrder(resume, photo, thumbnail);
+    }
+
+    @Test
+    void candidatesAreRecheckedAndDeletedPerBatch() {
+        // Nothing is marked, so every candidate goes through the re-check
+        ApplicationRepository applications = mock(ApplicationRepository.class, delegatesTo(applicationRepository));
+        JobSeekerProfileRepository profiles = mock(JobSeekerProfileRepository.class, delegatesTo(jobSeekerProfileRepository));
+        DerivativeJobRepository derivativeJobs = mock(DerivativeJobRepository.class, delegatesTo(derivativeJobRepository));
+        when(profiles.findAllResumeFilePaths()).thenReturn(List.of());
+        when(profiles.findAllPhotoFilePaths()).thenReturn(List.of());
+        when(derivativeJobs.findAllDerivedFileIds()).thenReturn(List.of());
+
+        new OrphanedFileCollector(dbFileRepository, applications, profiles, derivativeJobs,
+                fileStorageService, transactionManager, Duration.ZERO, 2, false).collect();
+
+        // Four files in batches of two, plus the empty page that ends the scan
+        verify(profiles, times(2)).findFilePathsIn(anyCollection());
+        verify(derivativeJobs, times(2)).findDerivedFileIdsIn(anyCollection());
+        verify(fileStorageService, times(2)).deleteFiles(anyCollection());
+        assertThat(remainingIds()).containsExactlyInAnyOrder(resume, photo, thumbnail);
+    }
+
+    private OrphanedFileCollector collector(JobSeekerProfileRepository profiles, Duration gracePeriod, boolean dryRun) {
+        return new OrphanedFileCollector(dbFileRepository, applicationRepository, profiles, derivativeJobRepository,
+                fileStorageService, transactionManager, gracePeriod, 2, dryRun);
+    }
+
+    private List<String> remainingIds() {
+        return dbFileRepository.findAll().stream().map(DBFile::getId).toList();
+    }
+
+    private String persistFile() {
+        DBFile file = new DBFile("file.bin", "application/octet-stream");
+        file.setFileSize(3L);
+        file.setContentHash("abc");
+        file.setStorageBackend("database");
+        file.setData(new byte[]{1, 2, 3});
+        return entityManager.persistAndGetId(file, String.class);
+    }
+}
@@ -0,0 +1,172 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.EducationDetail;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import com.careerportal.career_portal_backend.repository.JobSeekerProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CandidateSearchIndexTest {
+
+    private static final CandidateSearchIndex.Filters NO_FILTERS =
+            new CandidateSearchIndex.Filters(null, null, null, null, null);
+
+    private CandidateSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CandidateSearchIndex(null);
+        index.index(profile(1L, "Java, Spring Boot, SQL", "Backend developer", JobSeekerProfile.ExperienceStatus.EXPERIENCED,
+                education("B.Tech", "Computer Science", 2018)));
+        index.index(profile(2L, "Python, SQL", "Data analyst working with java reports", JobSeekerProfile.ExperienceStatus.FRESHER,
+                education("BSc", "Statistics", 2023)));
+        index.index(profile(3L, "JavaScript, React", null, JobSeekerProfile.ExperienceStatus.FRESHER,
+                education("B.Tech", "Information Technology", 2024)));
+    }
+
+    @Test
+    void booleanOperatorsCombineTerms() {
+        assertThat(ids("java AND sql")).containsExactly(1L, 2L);
+        assertThat(ids("python OR react")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids("sql -python")).containsExactly(1L);
+        assertThat(ids("NOT sql")).containsExactly(3L);
+        assertThat(ids("(python OR react) AND statistics")).containsExactly(2L);
+        assertThat(ids("jav*")).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void skillMatchesRankAboveFreeTextMatches() {
+        // Both mention java, but only the first lists it as a skill
+        assertThat(ids("java")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void facetsCountMatchesAndIgnoreTheirOwnFilter() {
+        CandidateSearchIndex.Result result = index.search(null,
+                new CandidateSearchIndex.Filters(List.of("sql"), null, null, null, null), 0, 10, 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.facets().get(CandidateSearchIndex.SKILL_FACET))
+                .containsEntry("SQL", 2).containsEntry("React", 1);
+        assertThat(result.facets().get(CandidateSearchIndex.QUALIFICATION_FACET))
+                .containsEntry("B.Tech", 1).containsEntry("BSc", 1);
+        assertThat(result.facets().get(CandidateSearchIndex.STATUS_FACET))
+                .containsEntry("EXPERIENCED", 1).containsEntry("FRESHER", 1);
+    }
+
+    @Test
+    void filtersNarrowTheResult() {
+        CandidateSearchIndex.Result result = index.search(null, new CandidateSearchIndex.Filters(
+                null, List.of("b.tech"), List.of(JobSeekerProfile.ExperienceStatus.FRESHER), 2020, null), 0, 10, 10);
+
+        assertThat(result.profileIds()).containsExactly(3L);
+    }
+
+    @Test
+    void pagesFollowTheRanking() {
+        CandidateSearchIndex.Result second = index.search("jav*", NO_FILTERS, 1, 2, 10);
+
+        assertThat(second.total()).isEqualTo(3);
+        assertThat(second.profileIds()).hasSize(1);
+    }
+
+    @Test
+    void reindexingReplacesTheOldEntry() {
+        index.index(profile(2L, "Go", "Platform engineer", JobSeekerProfile.ExperienceStatus.EXPERIENCED));
+
+        assertThat(ids("python")).isEmpty();
+        assertThat(ids("go")).containsExactly(2L);
+        assertThat(index.search(null, NO_FILTERS, 0, 10, 10).facets().get(CandidateSearchIndex.SKILL_FACET))
+                .doesNotContainKey("Python").containsEntry("SQL", 1);
+    }
+
+    @Test
+    void largeAndSmallHitSetsCountFacetsAlike() {
+        for (long id = 10; id < 40; id++) {
+            index.index(profile(id, id % 2 == 0 ? "Java, Kotlin" : "Java", "Engineer", JobSeekerProfile.ExperienceStatus.EXPERIENCED));
+        }
+
+        // 32 hits over seven skills are counted per value, the single hit from its own keys
+        Map<String, Integer> many = index.search("java", NO_FILTERS, 0, 10, 10).facets().get(CandidateSearchIndex.SKILL_FACET);
+        Map<String, Integer> one = index.search("python", NO_FILTERS, 0, 10, 10).facets().get(CandidateSearchIndex.SKILL_FACET);
+
+        assertThat(many).containsExactly(Map.entry("Java", 31), Map.entry("Kotlin", 15), Map.entry("SQL", 2),
+                Map.entry("Python", 1), Map.entry("Spring Boot", 1));
+        assertThat(one).containsExactly(Map.entry("Python", 1), Map.entry("SQL", 1));
+    }
+
+    @Test
+    void updateDuringRebuildIsNotLost() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JobSeekerProfileRepository repository = mock(JobSeekerProfileRepository.class);
+        when(repository.findAllWithEducationDetails()).thenAnswer(call -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(profile(1L, "Java", null, JobSeekerProfile.ExperienceStatus.FRESHER));
+        });
+        CandidateSearchIndex rebuilt = new CandidateSearchIndex(repository);
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(rebuilt::rebuild);
+        loading.await(5, TimeUnit.SECONDS);
+        // Committed after the load read the row: the rebuild is about to index the old skills
+        CompletableFuture<Void> update = CompletableFuture.runAsync(() -> rebuilt.onProfileChanged(
+                new JobSeekerProfileChangedEvent(1L, profile(1L, "Rust", null, JobSeekerProfile.ExperienceStatus.FRESHER))));
+        Thread.sleep(100);
+        release.countDown();
+        CompletableFuture.allOf(rebuild, update).get(5, TimeUnit.SECONDS);
+
+        assertThat(rebuilt.search("rust", NO_FILTERS, 0, 10, 10).profileIds()).containsExactly(1L);
+        assertThat(rebuilt.search("java", NO_FILTERS, 0, 10, 10).profileIds()).isEmpty();
+    }
+
+    @Test
+    void malformedQueryIsRejected() {
+        assertThatThrownBy(() -> index.search("(java", NO_FILTERS, 0, 10, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deeplyNestedQueryIsRejected() {
+        assertThat(ids("NOT (-(java))")).isNotNull();
+        for (String query : List.of("(".repeat(5000) + "java" + ")".repeat(5000), "NOT ".repeat(5000) + "java",
+                "-".repeat(5000) + "java")) {
+            assertThatThrownBy(() -> index.search(query, NO_FILTERS, 0, 10, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, NO_FILTERS, 0, 10, 10).profileIds();
+    }
+
+    private static JobSeekerProfile profile(Long id, String skills, String workExperience,
+                                            JobSeekerProfile.ExperienceStatus status, EducationDetail... education) {
+        JobSeekerProfile profile = new JobSeekerProfile();
+        profile.setId(id);
+        profile.setSkills(skills);
+        profile.setWorkExperience(workExperience);
+        profile.setStatus(status);
+        profile.setEducationDetails(List.of(education));
+        return profile;
+    }
+
+    private static EducationDetail education(String qualification, String specialization, int yearOfPassing) {
+        EducationDetail education = new EducationDetail();
+        education.setQualification(qualification);
+        education.setSpecialization(specialization);
+        education.setYearOfPassing(yearOfPassing);
+        return education;
+    }
+}
@@ -0,0 +1,73 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.payload.EmployerSuggestionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead for one keystroke over 100k company names: a lower-cased contains scan of every name,
+ * sorted for a stable top ten (what /api/employer/all did in memory), against the sorted prefix
+ * table. Run with the main method after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployerSuggestIndexBenchmark {
+
+    private static final int EMPLOYERS = 100_000;
+    private static final String[] WORDS = {"Acme", "Global", "Software", "Health", "Bank", "Retail", "Labs", "Systems"};
+    private static final String[] INDUSTRIES = {"Technology", "Finance", "Healthcare", "Retail", "Education"};
+    private static final String QUERY = "soft";
+    private static final int LIMIT = 10;
+
+    private final List<String> companyNames = new ArrayList<>(EMPLOYERS);
+    private EmployerSuggestIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new EmployerSuggestIndex(null);
+        for (long id = 1; id <= EMPLOYERS; id++) {
+            String name = WORDS[(int) (id % WORDS.length)] + " " + WORDS[(int) (id / 7 % WORDS.length)] + " " + id;
+            companyNames.add(name);
+            index.index(id, name, INDUSTRIES[(int) (id % INDUSTRIES.length)]);
+        }
+    }
+
+    @Benchmark
+    public List<String> containsScan() {
+        return companyNames.stream()
+                .filter(name -> name.toLowerCase().contains(QUERY))
+                .sorted()
+                .limit(LIMIT)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public EmployerSuggestionDto prefixTable() {
+        return index.suggest(QUERY, LIMIT);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EmployerSuggestIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
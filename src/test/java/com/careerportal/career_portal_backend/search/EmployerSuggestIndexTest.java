@@ -0,0 +1,83 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.payload.EmployerSuggestionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployerSuggestIndexTest {
+
+    private EmployerSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployerSuggestIndex(null);
+        index.index(1L, "Acme Software", "Information Technology");
+        index.index(2L, "Café-Co", "Food & Beverage");
+        index.index(3L, "Software House", "information technology");
+        index.index(4L, "Acme", "Retail");
+    }
+
+    @Test
+    void queriesAreNormalisedLikeNames() {
+        assertThat(companies("CAFE co")).containsExactly("Café-Co");
+        assertThat(companies("café-c")).containsExactly("Café-Co");
+        assertThat(industries("food &")).containsExactly("Food & Beverage");
+        assertThat(companies("  ")).isEmpty();
+    }
+
+    @Test
+    void innerWordsMatchAfterWholeNames() {
+        // "Software House" starts with the query, "Acme Software" only has a word starting with it
+        assertThat(companies("soft")).containsExactly("Software House", "Acme Software");
+        assertThat(industries("tech")).containsExactly("Information Technology");
+    }
+
+    @Test
+    void shorterNamesRankFirstAndLimitApplies() {
+        assertThat(companies("acme")).containsExactly("Acme", "Acme Software");
+        assertThat(index.suggest("acme", 1).getCompanies()).hasSize(1);
+    }
+
+    @Test
+    void reindexingReplacesTheOldEntry() {
+        index.onEmployerChanged(new EmployerChangedEvent(2L, "Brew Bros", "Food & Beverage"));
+
+        assertThat(companies("cafe")).isEmpty();
+        assertThat(companies("brew")).containsExactly("Brew Bros");
+    }
+
+    @Test
+    void industryStaysWhileAnyEmployerUsesIt() {
+        index.index(1L, "Acme Software", "Consulting");
+        assertThat(industries("information")).hasSize(1);
+
+        index.index(3L, "Software House", "Consulting");
+        assertThat(industries("information")).isEmpty();
+        assertThat(industries("consult")).containsExactly("Consulting");
+    }
+
+    @Test
+    void industryLabelFollowsTheRemainingEmployers() {
+        // Ties go to the alphabetically first spelling
+        assertThat(industries("information")).containsExactly("Information Technology");
+
+        index.index(1L, "Acme Software", "Consulting");
+        assertThat(industries("information")).containsExactly("information technology");
+
+        index.index(5L, "Nova", "INFORMATION TECHNOLOGY");
+        index.index(6L, "Orbit", "INFORMATION TECHNOLOGY");
+        assertThat(industries("information")).containsExactly("INFORMATION TECHNOLOGY");
+    }
+
+    private List<String> companies(String query) {
+        return index.suggest(query, 10).getCompanies().stream().map(EmployerSuggestionDto.Company::getCompanyName).toList();
+    }
+
+    private List<String> industries(String query) {
+        return index.suggest(query, 10).getIndustries();
+    }
+}
@@ -0,0 +1,88 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.jobs.search.max-matching-ids=2"})
+@Import(JobSearchIndex.class)
+class JobSearchIndexTest {
+
+    @Autowired
+    private JobSearchIndex index;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild();
+        index.index(job(1L, "Java Developer", "Spring Boot services"));
+        index.index(job(2L, "Frontend Engineer", "JavaScript and React"));
+    }
+
+    @Test
+    void everyKeywordTermMustStartAnIndexedTerm() {
+        assertThat(index.search("java dev")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.search("jav")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        // Whole-term matching: a substring inside a term is not a match
+        assertThat(index.search("script")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    void shortTermsOnlyMatchWholeTerms() {
+        index.index(job(3L, "C Developer", "Embedded C and Go"));
+
+        assertThat(index.search("c")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+        assertThat(index.search("ja")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.search("go dev")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+    }
+
+    @Test
+    void tooManyMatchesFallBackToTheDatabase() {
+        index.index(job(3L, "Java Architect", null));
+
+        assertThat(index.search("jav")).isEmpty();
+        assertThat(index.search("java architect")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+    }
+
+    @Test
+    void changesAreIndexedOnlyAfterCommit() {
+        eventPublisher.publishEvent(JobPostingChangedEvent.saved(job(3L, "Kotlin Developer", null)));
+        eventPublisher.publishEvent(JobPostingChangedEvent.deleted(1L));
+
+        assertThat(index.search("kotlin")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.search("spring")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertThat(index.search("kotlin")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+        assertThat(index.search("spring")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    void rolledBackChangesAreNeverIndexed() {
+        eventPublisher.publishEvent(JobPostingChangedEvent.saved(job(3L, "Kotlin Developer", null)));
+
+        TestTransaction.end();
+
+        assertThat(index.search("kotlin")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    private static JobPosting job(Long id, String title, String description) {
+        JobPosting job = new JobPosting();
+        job.setId(id);
+        job.setJobTitle(title);
+        job.setDescription(description);
+        return job;
+    }
+}
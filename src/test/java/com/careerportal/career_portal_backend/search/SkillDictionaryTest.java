@@ -0,0 +1,52 @@
+package com.careerportal.career_portal_backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillDictionaryTest {
+
+    private final SkillDictionary dictionary = new SkillDictionary();
+
+    @Test
+    void spellingsOfOneSkillShareAnId() {
+        int[] first = dictionary.acquire("Spring Boot, SQL");
+        int[] second = dictionary.acquire("sql; spring  boot | SQL");
+
+        assertThat(second).containsExactly(first);
+        assertThat(dictionary.label(first[0])).isIn("Spring Boot", "SQL");
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+
+    @Test
+    void skillsNoVectorHoldsAreForgottenAndTheirIdsReused() {
+        int[] java = dictionary.acquire("Java");
+        int[] both = dictionary.acquire("Java, Kotlin");
+
+        dictionary.release(both);
+        assertThat(dictionary.size()).isEqualTo(1);
+
+        int[] rust = dictionary.acquire("Rust");
+        assertThat(rust[0]).isNotEqualTo(java[0]).isLessThanOrEqualTo(1);
+        assertThat(dictionary.label(rust[0])).isEqualTo("Rust");
+
+        dictionary.release(java);
+        dictionary.release(rust);
+        assertThat(dictionary.size()).isZero();
+    }
+
+    @Test
+    void vectorKeepsTheFirstListedSkillsUpToTheCap() {
+        String skills = IntStream.range(0, SkillDictionary.MAX_SKILLS + 50)
+                .mapToObj(i -> "skill" + i).collect(Collectors.joining(", "));
+
+        int[] vector = dictionary.acquire(skills);
+
+        assertThat(vector).hasSize(SkillDictionary.MAX_SKILLS);
+        assertThat(dictionary.size()).isEqualTo(SkillDictionary.MAX_SKILLS);
+        assertThat(dictionary.label(vector[0])).isEqualTo("skill0");
+    }
+}
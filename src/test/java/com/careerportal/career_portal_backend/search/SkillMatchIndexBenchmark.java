@@ -0,0 +1,91 @@
+package com.careerportal.career_portal_backend.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-10 skill matches with 1M profiles and 20k job postings over a 2,000-skill vocabulary where a few
+ * skills are very common (the most popular is on roughly a third of profiles). Also times re-indexing
+ * one profile. Run with the main method after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SkillMatchIndexBenchmark {
+
+    private static final int PROFILES = 1_000_000;
+    private static final int JOBS = 20_000;
+    private static final int VOCABULARY = 2_000;
+    private static final int TOP_K = 10;
+
+    private final Random random = new Random(42);
+    private SkillMatchIndex index;
+    private long nextProfile = 0;
+
+    @Setup
+    public void setUp() {
+        index = new SkillMatchIndex(null, null);
+        for (long id = 1; id <= PROFILES; id++) {
+            index.putProfile(id, skills(5 + random.nextInt(6)));
+        }
+        for (long id = 1; id <= JOBS; id++) {
+            index.putJob(id, skills(3 + random.nextInt(5)));
+        }
+        // A job asking for the most common skills is the worst case: the longest posting lists
+        index.putJob(0, "skill0, skill1, skill2, skill3, skill10, skill50");
+    }
+
+    @Benchmark
+    public List<SkillMatchIndex.Match> topCandidatesForCommonSkills() {
+        return index.topCandidatesForJob(0, TOP_K);
+    }
+
+    @Benchmark
+    public List<SkillMatchIndex.Match> topCandidatesForRandomJob() {
+        return index.topCandidatesForJob(1 + random.nextInt(JOBS), TOP_K);
+    }
+
+    @Benchmark
+    public List<SkillMatchIndex.Match> topJobsForProfile() {
+        return index.topJobsForProfile(1 + random.nextInt(PROFILES), TOP_K);
+    }
+
+    @Benchmark
+    public void reindexProfile() {
+        index.putProfile(1 + (nextProfile++ % PROFILES), skills(5 + random.nextInt(6)));
+    }
+
+    // Skewed towards low skill numbers, so skill0 is common and skill1999 is rare
+    private String skills(int count) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < count; i++) {
+            double r = random.nextDouble();
+            joiner.add("skill" + (int) (VOCABULARY * r * r * r));
+        }
+        return joiner.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(SkillMatchIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.careerportal.career_portal_backend.search;
+
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.entity.JobSeekerProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SkillMatchIndexTest {
+
+    private SkillMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillMatchIndex(null, null);
+        index.putJob(10L, "Java, Spring Boot, SQL");
+        index.putJob(11L, "Python, SQL");
+        index.putProfile(1L, "java, spring  boot, sql");
+        index.putProfile(2L, "Java, Kotlin");
+        index.putProfile(3L, "Python");
+    }
+
+    @Test
+    void candidatesAreRankedByJaccardScore() {
+        List<SkillMatchIndex.Match> matches = index.topCandidatesForJob(10L, 10);
+
+        assertThat(matches).extracting(SkillMatchIndex.Match::id).containsExactly(1L, 2L);
+        assertThat(matches.get(0).score()).isEqualTo(1.0);
+        // {java} shared out of {java, spring boot, sql, kotlin}
+        assertThat(matches.get(1).score()).isCloseTo(0.25, within(1e-9));
+        assertThat(matches.get(0).matchedSkills()).containsExactlyInAnyOrder("Java", "Spring Boot", "SQL");
+    }
+
+    @Test
+    void topKKeepsOnlyTheBest() {
+        assertThat(index.topCandidatesForJob(10L, 1)).extracting(SkillMatchIndex.Match::id).containsExactly(1L);
+        assertThat(index.topJobsForProfile(3L, 10)).extracting(SkillMatchIndex.Match::id).containsExactly(11L);
+    }
+
+    @Test
+    void updatedProfileIsScoredWithItsNewSkills() {
+        index.putProfile(2L, "Python, SQL");
+
+        assertThat(index.topCandidatesForJob(10L, 10)).extracting(SkillMatchIndex.Match::id).containsExactly(1L, 2L);
+        assertThat(index.topCandidatesForJob(11L, 10)).first().satisfies(match -> {
+            assertThat(match.id()).isEqualTo(2L);
+            assertThat(match.score()).isEqualTo(1.0);
+        });
+    }
+
+    @Test
+    void inactiveAndRemovedJobsAreNotMatched() {
+        JobPosting job = new JobPosting();
+        job.setId(11L);
+        job.setRequiredSkills("Python, SQL");
+        job.setIsActive(false);
+        index.index(job);
+        index.removeJob(10L);
+
+        assertThat(index.topJobsForProfile(1L, 10)).isEmpty();
+        assertThat(index.topCandidatesForJob(10L, 10)).isEmpty();
+    }
+
+    @Test
+    void changeEventsUpdateTheVectors() {
+        index.onJobPostingChanged(JobPostingChangedEvent.deleted(11L));
+        JobSeekerProfile profile = new JobSeekerProfile();
+        profile.setId(3L);
+        profile.setSkills("Java, SQL");
+        index.onProfileChanged(new JobSeekerProfileChangedEvent(3L, profile));
+
+        assertThat(index.topJobsForProfile(3L, 10)).extracting(SkillMatchIndex.Match::id).containsExactly(10L);
+        assertThat(index.topCandidatesForJob(11L, 10)).isEmpty();
+    }
+}
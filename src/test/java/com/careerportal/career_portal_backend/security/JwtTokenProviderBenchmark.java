@@ -0,0 +1,86 @@
+package com.careerportal.career_portal_backend.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of verifying a bearer token per request: the old path (decode the secret, build a parser,
+ * parse for validation, then do it all again to read the subject) against the cached parser and
+ * single parse, and the verified-token cache in front of it. Run with the main method after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "Iu73k4hF9xP2QmA7tVwRz8BbCj6Gd2YqHs9Lp4Wx0TfKz1NvRr5Ug8MdXe3JyQnB";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenProvider cachingTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = provider(0);
+        cachingTokenProvider = provider(10_000);
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_EMPLOYER"));
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "employer", "", authorities, 7L, null);
+        token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    @Benchmark
+    public String perCallKeyAndTwoParses() {
+        Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build().parse(token);
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String cachedParserSingleParse() {
+        return tokenProvider.parseVerifiedToken(token).subject();
+    }
+
+    @Benchmark
+    public String verifiedTokenCacheHit() {
+        return cachingTokenProvider.parseVerifiedToken(token).subject();
+    }
+
+    private static JwtTokenProvider provider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new VerifiedTokenCache(cacheSize));
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationDate", 3_600_000L);
+        provider.init();
+        return provider;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
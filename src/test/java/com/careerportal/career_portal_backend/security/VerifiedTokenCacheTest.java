@@ -0,0 +1,104 @@
+package com.careerportal.career_portal_backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "Iu73k4hF9xP2QmA7tVwRz8BbCj6Gd2YqHs9Lp4Wx0TfKz1NvRr5Ug8MdXe3JyQnB";
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void expiredTokensAreNeitherCachedNorReturned() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        long now = System.currentTimeMillis();
+
+        cache.put("expired", token("a", now - 1));
+        cache.put("expiring", token("b", now + 50));
+
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("expiring")).isNotNull();
+        Thread.sleep(100);
+        assertThat(cache.get("expiring")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void leastRecentlyUsedTokenIsDroppedWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        long later = System.currentTimeMillis() + 60_000;
+        cache.put("first", token("1", later));
+        cache.put("second", token("2", later));
+
+        cache.get("first");
+        cache.put("third", token("3", later));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("first")).isNotNull();
+        assertThat(cache.get("third")).isNotNull();
+    }
+
+    @Test
+    void zeroSizeDisablesTheCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+        cache.put("token", token("1", System.currentTimeMillis() + 60_000));
+
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void revokedTokenIsRejectedEvenWhileCached() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(cache);
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationDate", 3_600_000L);
+        tokenProvider.init();
+        TokenRevocationService revocationService = new TokenRevocationService();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, null, revocationService);
+        ReflectionTestUtils.setField(filter, "statelessAuthentication", true);
+        ReflectionTestUtils.setField(filter, "revocationCheckEnabled", true);
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_EMPLOYER"));
+        String jwt = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(1L, "employer", "", authorities, 7L, null), null, authorities));
+
+        assertThat(authenticate(filter, jwt)).isTrue();
+        assertThat(cache.size()).isEqualTo(1);
+
+        VerifiedToken verified = tokenProvider.parseVerifiedToken(jwt);
+        revocationService.revoke(verified.tokenId(), new Date(verified.expiresAt()));
+
+        assertThat(authenticate(filter, jwt)).isFalse();
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    private static boolean authenticate(JwtAuthenticationFilter filter, String jwt) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwt);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication() != null;
+    }
+
+    private static VerifiedToken token(String id, long expiresAt) {
+        return new VerifiedToken(id, "user-" + id, expiresAt, null);
+    }
+}
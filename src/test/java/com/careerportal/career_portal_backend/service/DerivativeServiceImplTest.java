@@ -0,0 +1,95 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.entity.DerivativeJob;
+import com.careerportal.career_portal_backend.repository.DerivativeJobRepository;
+import com.careerportal.career_portal_backend.service.impl.DerivativeServiceImpl;
+import com.careerportal.career_portal_backend.storage.DerivativeRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DerivativeServiceImplTest {
+
+    private final DerivativeJobRepository repository = mock(DerivativeJobRepository.class);
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+    private final DerivativeRenderer renderer = mock(DerivativeRenderer.class);
+    private final DerivativeServiceImpl service = new DerivativeServiceImpl(repository, fileStorageService, renderer, 2);
+
+    private DerivativeJob job;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        job = new DerivativeJob("photo-1", DerivativeJob.Kind.THUMBNAIL);
+        job.setId(7L);
+        job.setStatus(DerivativeJob.Status.RUNNING);
+        when(repository.findById(7L)).thenReturn(Optional.of(job));
+
+        DBFile source = new DBFile("photo.png", "image/png");
+        source.setId("photo-1");
+        when(fileStorageService.getFile("photo-1")).thenReturn(source);
+        when(fileStorageService.loadFileAsResource(source)).thenReturn(new ByteArrayResource(new byte[]{1}));
+    }
+
+    @Test
+    void renderedJobIsDone() throws IOException {
+        job.setAttempts(1);
+        when(renderer.thumbnail(any())).thenReturn(new byte[]{9});
+        when(fileStorageService.storeDerivedFile(anyString(), anyString(), any())).thenReturn("thumb-1");
+        when(repository.finish(eq(7L), any(), any(), any(), any())).thenReturn(1);
+
+        assertThat(service.process(7L)).isTrue();
+
+        verify(repository).finish(eq(7L), eq(DerivativeJob.Status.DONE), eq("thumb-1"), isNull(), any());
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void failedJobIsRetriedUntilMaxAttempts() throws IOException {
+        when(renderer.thumbnail(any())).thenThrow(new IOException("Image is too large"));
+        when(repository.finish(eq(7L), any(), any(), any(), any())).thenReturn(1);
+
+        job.setAttempts(1);
+        service.process(7L);
+        verify(repository).finish(eq(7L), eq(DerivativeJob.Status.PENDING), isNull(), eq("Image is too large"), any());
+
+        job.setAttempts(2);
+        service.process(7L);
+        verify(repository).finish(eq(7L), eq(DerivativeJob.Status.FAILED), isNull(), eq("Image is too large"), any());
+    }
+
+    @Test
+    void resultOfAJobChangedWhileRenderingIsDiscarded() throws IOException {
+        // Deleted with its source, or re-queued as stale, while the render ran
+        job.setAttempts(1);
+        when(renderer.thumbnail(any())).thenReturn(new byte[]{9});
+        when(fileStorageService.storeDerivedFile(anyString(), anyString(), any())).thenReturn("thumb-1");
+        when(repository.finish(eq(7L), any(), any(), any(), any())).thenReturn(0);
+
+        assertThat(service.process(7L)).isFalse();
+
+        verify(fileStorageService).deleteFile("thumb-1");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void jobDeletedWhileQueuedIsSkipped() throws IOException {
+        when(repository.findById(8L)).thenReturn(Optional.empty());
+
+        assertThat(service.process(8L)).isFalse();
+        verify(renderer, never()).thumbnail(any());
+    }
+}
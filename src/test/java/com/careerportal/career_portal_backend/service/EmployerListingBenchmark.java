@@ -0,0 +1,115 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.CareerPortalBackendApplication;
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.repository.EmployerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * /api/employer/all with 100k employers in an in-memory H2 database: the old findAll() plus
+ * stream filters against the Specification query returning one page. Run with the main method
+ * after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployerListingBenchmark {
+
+    private static final int EMPLOYERS = 100_000;
+    private static final String[] INDUSTRIES = {"Technology", "Finance", "Healthcare", "Retail", "Education"};
+
+    private static final String COMPANY_NAME = "corp 12";
+    private static final String INDUSTRY = "tech";
+    private static final int FOUNDED_AFTER = 1990;
+
+    private ConfigurableApplicationContext context;
+    private EmployerRepository employerRepository;
+    private EmployerService employerService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CareerPortalBackendApplication.class)
+                // Command-line arguments, so they override the MySQL settings in application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:employers;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0",
+                        "--app.storage.root=target/bench-storage",
+                        "--logging.level.root=WARN");
+        employerRepository = context.getBean(EmployerRepository.class);
+        employerService = context.getBean(EmployerService.class);
+        insertEmployers(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Employer> findAllThenStreamFilters() {
+        List<Employer> employers = employerRepository.findAll();
+        employers = employers.stream()
+                .filter(emp -> emp.getCompanyName() != null &&
+                        emp.getCompanyName().toLowerCase().contains(COMPANY_NAME))
+                .collect(Collectors.toList());
+        employers = employers.stream()
+                .filter(emp -> emp.getIndustry() != null &&
+                        emp.getIndustry().toLowerCase().contains(INDUSTRY))
+                .collect(Collectors.toList());
+        return employers.stream()
+                .filter(emp -> emp.getFounded() != null && emp.getFounded() >= FOUNDED_AFTER)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employer> specificationPage() {
+        return employerService.getAllEmployers(COMPANY_NAME, INDUSTRY, FOUNDED_AFTER, 0, 20).getContent();
+    }
+
+    private static void insertEmployers(JdbcTemplate jdbcTemplate) {
+        List<Object[]> users = new ArrayList<>(EMPLOYERS);
+        List<Object[]> employers = new ArrayList<>(EMPLOYERS);
+        for (long id = 1; id <= EMPLOYERS; id++) {
+            users.add(new Object[]{id, "employer" + id, "employer" + id + "@example.test", "x"});
+            employers.add(new Object[]{id, id, "Corp " + id, "jobs" + id + "@example.test",
+                    INDUSTRIES[(int) (id % INDUSTRIES.length)], 1950 + (int) (id % 75)});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, email, password, created_at) " +
+                "values (?, ?, ?, ?, current_timestamp)", users);
+        jdbcTemplate.batchUpdate("insert into employers (id, user_id, company_name, email, industry, founded, created_at) " +
+                "values (?, ?, ?, ?, ?, ?, current_timestamp)", employers);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EmployerListingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
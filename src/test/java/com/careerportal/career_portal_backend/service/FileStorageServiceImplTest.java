@@ -0,0 +1,169 @@
+package com.careerportal.career_portal_backend.service;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.repository.DBFileRepository;
+import com.careerportal.career_portal_backend.service.impl.FileStorageServiceImpl;
+import com.careerportal.career_portal_backend.storage.FileSystemBlobStore;
+import com.careerportal.career_portal_backend.storage.GzipCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Uploads that reuse stored content racing the removal of the last row pointing at it.
+ * The repository is an in-memory table, so the interleavings can be forced.
+ */
+class FileStorageServiceImplTest {
+
+    private static final byte[] CONTENT = "%PDF-1.4 resume".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private final Map<String, DBFile> rows = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private volatile CountDownLatch saving;
+    private volatile CountDownLatch swept;
+
+    private FileSystemBlobStore blobStore;
+    private FileStorageServiceImpl fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        DBFileRepository repository = mock(DBFileRepository.class);
+        when(repository.findFirstByContentHashAndStorageBackendAndStorageLocationIsNotNull(anyString(), anyString()))
+                .thenAnswer(call -> rows.values().stream()
+                        .filter(row -> row.getContentHash().equals(call.getArgument(0))
+                                && row.getStorageBackend().equals(call.getArgument(1)))
+                        .findFirst());
+        when(repository.existsByStorageBackendAndStorageLocation(anyString(), anyString()))
+                .thenAnswer(call -> rows.values().stream()
+                        .anyMatch(row -> row.getStorageLocation().equals(call.getArgument(1))));
+        when(repository.findById(anyString())).thenAnswer(call -> Optional.ofNullable(rows.get(call.getArgument(0))));
+        when(repository.save(any(DBFile.class))).thenAnswer(call -> {
+            DBFile row = call.getArgument(0);
+            CountDownLatch waitFor = swept;
+            if (waitFor != null) {
+                saving.countDown();
+                waitFor.await(5, TimeUnit.SECONDS);
+            }
+            row.setId(UUID.randomUUID().toString());
+            rows.put(row.getId(), row);
+            return row;
+        });
+        doAnswer(call -> rows.remove(call.<DBFile>getArgument(0).getId())).when(repository).delete(any(DBFile.class));
+
+        GzipCodec gzipCodec = new GzipCodec(true, 6, 0.1);
+        blobStore = new FileSystemBlobStore(root.toString(), gzipCodec);
+        fileStorageService = new FileStorageServiceImpl(repository, event -> { }, gzipCodec,
+                List.of(blobStore), FileSystemBlobStore.NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void uploadReusingContentWhileItsLastRowIsDeletedKeepsTheBlob() throws Exception {
+        String first = fileStorageService.storeFile(upload());
+        lastUsedLongAgo(rows.get(first));
+
+        // The second upload matches the first row and stops just before saving its own row
+        saving = new CountDownLatch(1);
+        swept = new CountDownLatch(1);
+        Future<String> second = executor.submit(() -> fileStorageService.storeFile(upload()));
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        fileStorageService.deleteFile(first);
+        int removed = sweep();
+        swept.countDown();
+
+        DBFile reused = rows.get(second.get(5, TimeUnit.SECONDS));
+        assertThat(removed).isZero();
+        assertThat(read(reused)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void uploadAfterTheBlobWasSweptStoresTheContentAgain() throws Exception {
+        String first = fileStorageService.storeFile(upload());
+        DBFile stale = rows.get(first);
+        lastUsedLongAgo(stale);
+        fileStorageService.deleteFile(first);
+        // The row is gone from the table but a lookup that already happened would still return it
+        rows.put("stale", stale);
+        blobStore.removeUnreferenced(Instant.now().minus(Duration.ofHours(1)), location -> false);
+        rows.remove("stale");
+
+        DBFile uploaded = rows.get(fileStorageService.storeFile(upload()));
+
+        assertThat(read(uploaded)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void concurrentUploadsAndDeletesNeverLeaveARowWithoutContent() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            String first = fileStorageService.storeFile(upload());
+            lastUsedLongAgo(rows.get(first));
+
+            Future<String> second = executor.submit(() -> fileStorageService.storeFile(upload()));
+            fileStorageService.deleteFile(first);
+            sweep();
+            second.get(5, TimeUnit.SECONDS);
+
+            for (DBFile row : rows.values()) {
+                assertThat(read(row)).isEqualTo(CONTENT);
+            }
+            rows.clear();
+            sweep();
+        }
+    }
+
+    private int sweep() throws IOException {
+        return blobStore.removeUnreferenced(Instant.now().minus(Duration.ofHours(1)),
+                location -> rows.values().stream().anyMatch(row -> row.getStorageLocation().equals(location)));
+    }
+
+    private void lastUsedLongAgo(DBFile row) throws IOException {
+        Files.setLastModifiedTime(root.resolve(row.getStorageLocation()),
+                FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+    }
+
+    private byte[] read(DBFile row) throws IOException {
+        try (InputStream content = fileStorageService.loadFileAsResource(row).getInputStream()) {
+            return content.readAllBytes();
+        }
+    }
+
+    private static MockMultipartFile upload() {
+        return new MockMultipartFile("file", "resume.pdf", "application/pdf", CONTENT);
+    }
+}
@@ -0,0 +1,95 @@
+package com.careerportal.career_portal_backend.specifications;
+
+import com.careerportal.career_portal_backend.entity.Employer;
+import com.careerportal.career_portal_backend.entity.JobPosting;
+import com.careerportal.career_portal_backend.entity.User;
+import com.careerportal.career_portal_backend.repository.JobPostingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class JobKeysetCursorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private Employer employer;
+
+    @BeforeEach
+    void setUp() {
+        employer = new Employer();
+        employer.setUser(entityManager.persist(new User("acme", "acme@example.test", "secret")));
+        employer.setCompanyName("Acme");
+        employer.setEmail("jobs@acme.test");
+        employer.setIndustry("Technology");
+        entityManager.persist(employer);
+    }
+
+    @Test
+    void newestPagesThroughUndatedJobsLast() {
+        Long older = persistJob("Older", LocalDate.of(2024, 1, 1));
+        Long undatedFirst = persistJob("Undated 1", null);
+        Long newer = persistJob("Newer", LocalDate.of(2024, 2, 1));
+        Long undatedSecond = persistJob("Undated 2", null);
+        Long sameDay = persistJob("Same day", LocalDate.of(2024, 1, 1));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(walk(JobKeysetCursor.SortOrder.NEWEST))
+                .containsExactly(newer, sameDay, older, undatedSecond, undatedFirst);
+    }
+
+    @Test
+    void undatedPositionSurvivesEncoding() {
+        JobPosting job = new JobPosting();
+        job.setId(42L);
+        job.setDatePosted(null);
+
+        String token = JobKeysetCursor.after(job, JobKeysetCursor.SortOrder.NEWEST).encode();
+
+        assertThat(JobKeysetCursor.decode(token).encode()).isEqualTo(token);
+        // Only NEWEST has a nullable key: "TITLE|42" without a title is rejected
+        assertThatThrownBy(() -> JobKeysetCursor.decode("VElUTEV8NDI"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Reads one row per page, following the cursor each time, like a client paging to the end
+    private List<Long> walk(JobKeysetCursor.SortOrder sortOrder) {
+        List<Long> ids = new ArrayList<>();
+        JobKeysetCursor cursor = null;
+        while (true) {
+            Specification<JobPosting> spec = cursor == null
+                    ? (root, query, cb) -> cb.conjunction()
+                    : JobKeysetCursor.decode(cursor.encode()).toSpecification();
+            List<JobPosting> page = jobPostingRepository.findBy(spec,
+                    query -> query.sortBy(sortOrder.getSort()).limit(1).all());
+            if (page.isEmpty()) {
+                return ids;
+            }
+            ids.add(page.get(0).getId());
+            cursor = JobKeysetCursor.after(page.get(0), sortOrder);
+        }
+    }
+
+    private Long persistJob(String title, LocalDate datePosted) {
+        JobPosting job = new JobPosting();
+        job.setEmployer(employer);
+        job.setJobTitle(title);
+        job.setDatePosted(datePosted);
+        return entityManager.persist(job).getId();
+    }
+}
@@ -0,0 +1,86 @@
+package com.careerportal.career_portal_backend.storage;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import com.careerportal.career_portal_backend.repository.DBFileRepository;
+import com.careerportal.career_portal_backend.service.impl.FileStorageServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class DatabaseBlobMigrationTest {
+
+    private static final byte[] TEXT = "Experienced Java developer. ".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DBFileRepository dbFileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final GzipCodec gzipCodec = new GzipCodec(true, 6, 0.1);
+
+    @Test
+    void compressedRowsAreMigratedAsTheirOriginalContent() throws IOException {
+        String compressedId = persistRow(TEXT, "text/plain");
+        byte[] photo = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+        String plainId = persistRow(photo, "image/png");
+        FileSystemBlobStore fileSystemBlobStore = new FileSystemBlobStore(root.toString(), gzipCodec);
+
+        new DatabaseBlobMigration(dbFileRepository, fileSystemBlobStore, gzipCodec, transactionManager).run(null);
+        entityManager.flush();
+        entityManager.clear();
+
+        FileStorageServiceImpl fileStorageService = new FileStorageServiceImpl(dbFileRepository,
+                mock(ApplicationEventPublisher.class), gzipCodec, List.of(fileSystemBlobStore), FileSystemBlobStore.NAME);
+        DBFile compressed = dbFileRepository.findById(compressedId).orElseThrow();
+        assertThat(compressed.getStorageBackend()).isEqualTo(FileSystemBlobStore.NAME);
+        assertThat(compressed.getFileSize()).isEqualTo(TEXT.length);
+        assertThat(compressed.getContentHash()).isEqualTo(ContentHashes.sha256Hex(TEXT));
+        assertThat(download(fileStorageService, compressed)).isEqualTo(TEXT);
+
+        DBFile plain = dbFileRepository.findById(plainId).orElseThrow();
+        assertThat(plain.getContentEncoding()).isNull();
+        assertThat(download(fileStorageService, plain)).isEqualTo(photo);
+    }
+
+    // Stored the way DatabaseBlobStore.write stores it
+    private String persistRow(byte[] content, String fileType) throws IOException {
+        DBFile file = new DBFile("file", fileType);
+        new DatabaseBlobStore(dataSource, gzipCodec).write(file, new ByteArrayInputStream(content));
+        file.setStorageBackend(DatabaseBlobStore.NAME);
+        String id = entityManager.persistAndGetId(file, String.class);
+        entityManager.flush();
+        return id;
+    }
+
+    private static byte[] download(FileStorageServiceImpl fileStorageService, DBFile file) throws IOException {
+        try (InputStream in = fileStorageService.loadFileAsResource(file).getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
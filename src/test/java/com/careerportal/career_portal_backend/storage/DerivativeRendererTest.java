@@ -0,0 +1,82 @@
+package com.careerportal.career_portal_backend.storage;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class DerivativeRendererTest {
+
+    private final DerivativeRenderer renderer = new DerivativeRenderer(20, 60, 10_000);
+
+    @Test
+    void thumbnailFitsTheSquare() throws IOException {
+        BufferedImage thumbnail = decode(renderer.thumbnail(png(90, 45)));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(20);
+        assertThat(thumbnail.getHeight()).isEqualTo(10);
+    }
+
+    @Test
+    void oversizedImageIsRejectedBeforeDecoding() {
+        assertThatThrownBy(() -> renderer.thumbnail(png(101, 100)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("101x100");
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThatThrownBy(() -> renderer.thumbnail(new ByteArrayResource("not an image".getBytes())))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Unsupported image format");
+    }
+
+    @Test
+    void previewIsPreviewWidthWide() throws IOException {
+        BufferedImage preview = decode(renderer.pdfPreview(pdf(PDRectangle.A4)));
+
+        assertThat(preview.getWidth()).isCloseTo(60, within(1)); // PDFBox rounds the scaled page size down
+    }
+
+    @Test
+    void oddPageShapesStayWithinThePixelBudget() throws IOException {
+        // A 1pt square would otherwise render at 4320 DPI
+        BufferedImage tiny = decode(renderer.pdfPreview(pdf(new PDRectangle(1, 1))));
+        assertThat(tiny.getWidth()).isLessThanOrEqualTo((int) Math.ceil(DerivativeRenderer.MAX_PREVIEW_DPI / 72));
+
+        // A narrow strip a hundred pages tall
+        BufferedImage tall = decode(renderer.pdfPreview(pdf(new PDRectangle(600, 84_000))));
+        assertThat((long) tall.getWidth() * tall.getHeight())
+                .isLessThanOrEqualTo(60L * 60 * DerivativeRenderer.MAX_PREVIEW_ASPECT + 200);
+    }
+
+    private static ByteArrayResource png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new ByteArrayResource(out.toByteArray());
+    }
+
+    private static ByteArrayResource pdf(PDRectangle size) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(size));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return new ByteArrayResource(out.toByteArray());
+        }
+    }
+
+    private static BufferedImage decode(byte[] png) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(png));
+    }
+}
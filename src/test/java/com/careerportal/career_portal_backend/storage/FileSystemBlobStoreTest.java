@@ -0,0 +1,116 @@
+package com.careerportal.career_portal_backend.storage;
+
+import com.careerportal.career_portal_backend.entity.DBFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSystemBlobStoreTest {
+
+    private static final Instant LONG_AGO = Instant.now().minus(Duration.ofDays(2));
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore store;
+    private final Set<String> referenced = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        store = new FileSystemBlobStore(root.toString(), new GzipCodec(false, 6, 0.1));
+    }
+
+    @Test
+    void removesOnlyOldUnreferencedBlobs() throws IOException {
+        DBFile orphan = write("orphan", LONG_AGO);
+        DBFile shared = write("shared", LONG_AGO);
+        DBFile recent = write("recent", Instant.now());
+        referenced.add(shared.getStorageLocation());
+
+        assertThat(sweep()).isEqualTo(1);
+
+        assertThat(store.exists(orphan)).isFalse();
+        assertThat(store.exists(shared)).isTrue();
+        assertThat(store.exists(recent)).isTrue();
+    }
+
+    @Test
+    void writingStoredContentAgainMarksItAsUsed() throws IOException {
+        DBFile first = write("same", LONG_AGO);
+        DBFile second = write("same", null);
+
+        assertThat(second.getStorageLocation()).isEqualTo(first.getStorageLocation());
+        assertThat(sweep()).isZero();
+        assertThat(store.exists(first)).isTrue();
+    }
+
+    @Test
+    void blobReusedWhileBeingRemovedIsPutBack() throws IOException {
+        DBFile blob = write("reused", LONG_AGO);
+        boolean[] reused = {false};
+
+        // An upload reuses the blob right after it passed the first check, before it is moved aside
+        int removed = store.removeUnreferenced(Instant.now().minus(Duration.ofHours(1)), location -> {
+            if (!reused[0]) {
+                reused[0] = true;
+                write("reused", null);
+            }
+            return referenced.contains(location);
+        });
+
+        assertThat(removed).isZero();
+        assertThat(store.exists(blob)).isTrue();
+        try (Stream<Path> aside = Files.list(root.resolve("removing"))) {
+            assertThat(aside).isEmpty();
+        }
+    }
+
+    @Test
+    void blobLeftAsideByAnInterruptedRunIsResolved() throws IOException {
+        DBFile kept = write("kept", LONG_AGO);
+        DBFile dropped = write("dropped", LONG_AGO);
+        referenced.add(kept.getStorageLocation());
+        Files.createDirectories(root.resolve("removing"));
+        for (DBFile file : new DBFile[]{kept, dropped}) {
+            Path blob = root.resolve(file.getStorageLocation());
+            Files.move(blob, root.resolve("removing").resolve(blob.getFileName()));
+        }
+
+        assertThat(sweep()).isEqualTo(1);
+
+        assertThat(store.exists(kept)).isTrue();
+        assertThat(store.exists(dropped)).isFalse();
+    }
+
+    private int sweep() throws IOException {
+        return store.removeUnreferenced(Instant.now().minus(Duration.ofHours(1)), referenced::contains);
+    }
+
+    // Stores the content and, when given, backdates the blob's last use
+    private DBFile write(String content, Instant lastUsed) {
+        DBFile file = new DBFile("file.bin", "application/octet-stream");
+        try {
+            store.write(file, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+            if (lastUsed != null) {
+                Files.setLastModifiedTime(root.resolve(file.getStorageLocation()), FileTime.from(lastUsed));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,147 @@
+package com.careerportal.career_portal_backend.storage;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compression ratio against CPU cost of the storage codec on resume-like documents: a legacy
+ * .doc-style text document, a text PDF and a .docx (already a zip). Ratios are printed at setup;
+ * run with the main method after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GzipCodecBenchmark {
+
+    private static final String[] WORDS = {"experience", "java", "spring", "developer", "team", "project",
+            "managed", "designed", "services", "database", "customer", "delivery", "university", "skills",
+            "responsible", "performance", "2019", "2021", "senior", "engineer", "cloud", "migration"};
+
+    @Param({"doc", "pdf", "docx"})
+    public String document;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private GzipCodec codec;
+    private byte[] original;
+    private byte[] compressed;
+
+    @Setup
+    public void setUp() throws IOException {
+        codec = new GzipCodec(true, level, 0.0);
+        original = switch (document) {
+            case "doc" -> text(400_000).getBytes(StandardCharsets.UTF_8);
+            case "pdf" -> pdf();
+            case "docx" -> docx();
+            default -> throw new IllegalArgumentException(document);
+        };
+        compressed = codec.compress(original);
+        if (compressed == null) {
+            System.out.printf("%n%s level %d: %d bytes, compression does not pay off%n", document, level, original.length);
+            compressed = original;
+        } else {
+            System.out.printf("%n%s level %d: %d -> %d bytes (%.1f%% saved)%n", document, level, original.length,
+                    compressed.length, 100.0 * (original.length - compressed.length) / original.length);
+        }
+    }
+
+    @Benchmark
+    public byte[] compress() throws IOException {
+        return codec.compress(original);
+    }
+
+    @Benchmark
+    public long decompress() throws IOException {
+        if (compressed == original) {
+            return 0;
+        }
+        try (InputStream in = codec.decode(new ByteArrayInputStream(compressed))) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static String text(int length) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? ".\n" : " ");
+        }
+        return text.toString();
+    }
+
+    private static byte[] pdf() throws IOException {
+        try (PDDocument pdf = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            String[] lines = text(60_000).split("\n");
+            int line = 0;
+            while (line < lines.length) {
+                PDPage page = new PDPage();
+                pdf.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(pdf, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.newLineAtOffset(40, 750);
+                    for (int row = 0; row < 60 && line < lines.length; row++, line++) {
+                        content.showText(lines[line].length() > 100 ? lines[line].substring(0, 100) : lines[line]);
+                        content.newLineAtOffset(0, -12);
+                    }
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            pdf.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] docx() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            StringBuilder xml = new StringBuilder("<w:document><w:body>");
+            for (String paragraph : text(200_000).split("\n")) {
+                xml.append("<w:p><w:r><w:t>").append(paragraph).append("</w:t></w:r></w:p>");
+            }
+            zip.write(xml.append("</w:body></w:document>").toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(GzipCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}